@@ -0,0 +1,245 @@
+package org.aybarsacar.advancedAlgorithms.ahocorasick;
+
+import org.aybarsacar.advancedAlgorithms.helper.IntIntHashMap;
+import org.aybarsacar.advancedAlgorithms.matcher.MatchListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+/**
+ * Aho-Corasick automaton
+ * finds every occurrence of every inserted word in a single pass over the text
+ * <p>
+ * words go into a trie the same way as in PrefixTree,
+ * build adds the failure links (longest suffix that is still in the trie) and the output links
+ * (nearest word on the failure chain), then compiles the trie into a dense transition table
+ * so the search does exactly one table lookup per char and never follows a failure link
+ * <p>
+ * the table has a column per distinct char of the words, not per char of the alphabet,
+ * every char that is in no word shares column 0 which always leads back to the root
+ */
+public class AhoCorasick
+{
+  private static final int DENSE_LIMIT = 256;
+
+  AhoCorasickNode root;
+  private int nodeCount = 1;
+  private boolean built;
+
+  //  char -> column, 0 for chars in no word
+  private final int[] denseColumns = new int[DENSE_LIMIT];
+  private final IntIntHashMap sparseColumns = new IntIntHashMap();
+  private int width;
+
+  //  state * width + column -> next state
+  private int[] transitions;
+
+  //  per state: whether a word ends there, its id and length and the next state on the output chain or -1
+  private boolean[] words;
+  private int[] wordIds;
+  private int[] wordLengths;
+  private int[] outputs;
+
+  public AhoCorasick()
+  {
+    root = new AhoCorasickNode();
+  }
+
+  /**
+   * adds a word, inserting the same word again replaces its id
+   *
+   * @param word to search for, at least one char
+   * @param id   reported with every match of the word
+   */
+  public void insert(char[] word, int id)
+  {
+    if (word == null || word.length == 0) throw new IllegalArgumentException("Words can not be empty");
+
+    AhoCorasickNode current = root;
+
+    for (int i = 0; i < word.length; i++)
+    {
+      if (current.hasChildren(word[i]))
+      {
+        current = current.getChildren(word[i]);
+      }
+      else
+      {
+        AhoCorasickNode node = new AhoCorasickNode(word[i], i + 1);
+        current.addChildren(node);
+        current = node;
+        nodeCount++;
+      }
+    }
+
+    current.isWord = true;
+    current.id = id;
+    built = false;
+  }
+
+  /**
+   * links and compiles the trie, search calls it when words were added since the last build
+   */
+  public void build()
+  {
+    List<AhoCorasickNode> order = breadthFirst();
+    assignColumns(order);
+    link(order);
+    compile(order);
+
+    built = true;
+  }
+
+  /**
+   * reports every match of every word, matches are reported in the order they end in the text
+   *
+   * @param text     to search in
+   * @param listener receives the id of the word and where the match starts
+   */
+  public void search(char[] text, MatchListener listener)
+  {
+    if (!built) build();
+
+    int state = 0;
+    for (int i = 0; i < text.length; i++)
+    {
+      state = transitions[state * width + column(text[i])];
+
+      for (int s = words[state] ? state : outputs[state]; s >= 0; s = outputs[s])
+      {
+        listener.match(wordIds[s], i - wordLengths[s] + 1);
+      }
+    }
+  }
+
+  /**
+   * @return true if any word occurs in the text, stops at the first match
+   */
+  public boolean containsAny(char[] text)
+  {
+    if (!built) build();
+
+    int state = 0;
+    for (char c : text)
+    {
+      state = transitions[state * width + column(c)];
+      if (words[state] || outputs[state] >= 0) return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * @return number of trie nodes, which is the number of states of the automaton
+   */
+  public int size()
+  {
+    return nodeCount;
+  }
+
+  private int column(char c)
+  {
+    if (c < DENSE_LIMIT) return denseColumns[c];
+    return sparseColumns.get(c, 0);
+  }
+
+  /**
+   * numbers the nodes level by level, a failure link always points to a lower state
+   */
+  private List<AhoCorasickNode> breadthFirst()
+  {
+    List<AhoCorasickNode> order = new ArrayList<>(nodeCount);
+    Queue<AhoCorasickNode> queue = new ArrayDeque<>();
+    queue.add(root);
+
+    while (!queue.isEmpty())
+    {
+      AhoCorasickNode node = queue.poll();
+      node.state = order.size();
+      order.add(node);
+
+      if (node.children != null) queue.addAll(node.children.values());
+    }
+
+    return order;
+  }
+
+  private void assignColumns(List<AhoCorasickNode> order)
+  {
+    Arrays.fill(denseColumns, 0);
+    sparseColumns.clear();
+    width = 1;
+
+    for (int i = 1; i < order.size(); i++)
+    {
+      char c = order.get(i).c;
+      if (column(c) != 0) continue;
+
+      if (c < DENSE_LIMIT) denseColumns[c] = width++;
+      else sparseColumns.put(c, width++);
+    }
+  }
+
+  private void link(List<AhoCorasickNode> order)
+  {
+    root.fail = root;
+    root.output = null;
+
+    for (AhoCorasickNode node : order)
+    {
+      if (node.children == null) continue;
+
+      for (AhoCorasickNode child : node.children.values())
+      {
+//        follow the failures of the parent until one of them can be extended with the same char
+        AhoCorasickNode fail = node.fail;
+        while (fail != root && !fail.hasChildren(child.c))
+        {
+          fail = fail.fail;
+        }
+
+        AhoCorasickNode next = fail.getChildren(child.c);
+        child.fail = next != null && next != child ? next : root;
+        child.output = child.fail.isWord ? child.fail : child.fail.output;
+      }
+    }
+  }
+
+  private void compile(List<AhoCorasickNode> order)
+  {
+    char[] columnChars = new char[width];
+    for (int i = 1; i < order.size(); i++)
+    {
+      char c = order.get(i).c;
+      columnChars[column(c)] = c;
+    }
+
+    transitions = new int[order.size() * width];
+    words = new boolean[order.size()];
+    wordIds = new int[order.size()];
+    wordLengths = new int[order.size()];
+    outputs = new int[order.size()];
+
+    for (AhoCorasickNode node : order)
+    {
+      int row = node.state * width;
+
+      for (int column = 1; column < width; column++)
+      {
+        AhoCorasickNode child = node.getChildren(columnChars[column]);
+
+        if (child != null) transitions[row + column] = child.state;
+//        the failure state is lower and its row is already complete
+        else if (node != root) transitions[row + column] = transitions[node.fail.state * width + column];
+      }
+
+      words[node.state] = node.isWord;
+      wordIds[node.state] = node.id;
+      wordLengths[node.state] = node.depth;
+      outputs[node.state] = node.output == null ? -1 : node.output.state;
+    }
+  }
+}
@@ -0,0 +1,64 @@
+package org.aybarsacar.advancedAlgorithms.ahocorasick;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A trie node of the Aho-Corasick automaton, the PrefixNode with the links the automaton needs
+ * <p>
+ * fail points to the node of the longest proper suffix of this node's string that is also in the trie
+ * output points to the nearest node on the fail chain that ends a word
+ */
+public class AhoCorasickNode
+{
+  char c;
+  int id;
+  int depth;
+  Map<Character, AhoCorasickNode> children;
+  boolean isWord = false;
+
+  AhoCorasickNode fail;
+  AhoCorasickNode output;
+
+  //  row of the node in the compiled transition table
+  int state;
+
+  public AhoCorasickNode()
+  {
+    this.c = 0;
+    this.id = 0;
+  }
+
+  public AhoCorasickNode(char c, int depth)
+  {
+    this.c = c;
+    this.depth = depth;
+  }
+
+  public boolean hasChildren(char c)
+  {
+    return children != null && children.containsKey(c);
+  }
+
+  public AhoCorasickNode getChildren(char c)
+  {
+    if (!hasChildren(c)) return null;
+
+    return children.get(c);
+  }
+
+  public void addChildren(AhoCorasickNode node)
+  {
+    if (children == null) children = new HashMap<>();
+
+    if (!hasChildren(node.c)) children.put(node.c, node);
+  }
+
+  @Override
+  public String toString()
+  {
+    if (children != null) return c + (isWord ? "." + id : "") + "->[" + children.values() + "]";
+
+    return c + "." + id;
+  }
+}
@@ -0,0 +1,133 @@
+package org.aybarsacar.advancedAlgorithms.approximate;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Search with at most k edits, chars inserted, deleted or replaced, the Levenshtein distance
+ * <p>
+ * Myers' bit parallel algorithm: a column of the edit distance table between the pattern and the text
+ * changes by -1, 0 or +1 from one row to the next, so a column is kept as two longs of vertical deltas
+ * and the whole column is moved one text char along with a handful of word operations,
+ * the score at the bottom of the column is the smallest distance of a match ending at that char
+ * <p>
+ * a match can end at one index with several starts, so the matches are reported by the index of their last char
+ * patterns are at most 64 chars long, the search takes O(n) word operations
+ */
+public class EditDistanceSearch
+{
+  private final int maxEdits;
+
+  /**
+   * @param maxEdits k, 0 is an exact search
+   */
+  public EditDistanceSearch(int maxEdits)
+  {
+    if (maxEdits < 0) throw new IllegalArgumentException("maxEdits can not be negative");
+
+    this.maxEdits = maxEdits;
+  }
+
+  /**
+   * @param array   to search in
+   * @param pattern at most 64 chars
+   * @return index of the last char of the first match within k edits, -1 if there is none
+   */
+  public int search(char[] array, char[] pattern)
+  {
+    if (array == null || pattern == null) return -1;
+
+    int[] first = {-1};
+    scan(array, pattern, (end, distance) -> {
+      first[0] = end;
+      return false;
+    });
+
+    return first[0];
+  }
+
+  /**
+   * @return the index of the last char of every match within k edits in increasing order
+   */
+  public int[] searchAll(char[] array, char[] pattern)
+  {
+    if (array == null || pattern == null) return new int[0];
+
+    IntStream.Builder matches = IntStream.builder();
+    scan(array, pattern, (end, distance) -> {
+      matches.accept(end);
+      return true;
+    });
+
+    return matches.build().toArray();
+  }
+
+  /**
+   * @return for every index of the array the smallest edit distance between the pattern
+   * and a substring ending there, the distances above k are reported as k + 1
+   */
+  public int[] distances(char[] array, char[] pattern)
+  {
+    int[] distances = new int[array.length];
+    Arrays.fill(distances, maxEdits + 1);
+
+    scan(array, pattern, (end, distance) -> {
+      distances[end] = distance;
+      return true;
+    });
+
+    return distances;
+  }
+
+  private void scan(char[] array, char[] pattern, MatchHandler handler)
+  {
+    int m = pattern.length;
+    if (m == 0)
+    {
+//      the empty pattern ends everywhere with no edits
+      for (int i = 0; i < array.length; i++)
+      {
+        if (!handler.match(i, 0)) return;
+      }
+      return;
+    }
+
+    PatternMasks masks = new PatternMasks(pattern);
+    long last = 1L << (m - 1);
+
+//    vertical deltas of the column, all +1 at the start since the empty text is i edits away from i chars
+    long positive = m == Long.SIZE ? ~0L : (1L << m) - 1;
+    long negative = 0;
+    int score = m;
+
+    for (int i = 0; i < array.length; i++)
+    {
+      long eq = masks.mask(array[i]);
+      long xv = eq | negative;
+      long xh = (((eq & positive) + positive) ^ positive) | eq;
+
+//      horizontal deltas
+      long ph = negative | ~(xh | positive);
+      long mh = positive & xh;
+
+      if ((ph & last) != 0) score++;
+      else if ((mh & last) != 0) score--;
+
+//      the top row stays 0 since a match may start anywhere, so nothing is shifted in
+      ph <<= 1;
+      mh <<= 1;
+      positive = mh | ~(xv | ph);
+      negative = ph & xv;
+
+      if (score <= maxEdits && !handler.match(i, score)) return;
+    }
+  }
+
+  private interface MatchHandler
+  {
+    /**
+     * @return true to keep searching
+     */
+    boolean match(int end, int distance);
+  }
+}
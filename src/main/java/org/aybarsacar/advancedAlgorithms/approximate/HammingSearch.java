@@ -0,0 +1,98 @@
+package org.aybarsacar.advancedAlgorithms.approximate;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * Search with at most k mismatched chars, the Hamming distance between the pattern and the window
+ * <p>
+ * bit parallel Shift-Or over a long per allowed mismatch, so patterns are at most 64 chars long
+ * a 0 bit j in r[d] means the last j + 1 chars of the text equal the first j + 1 chars of the pattern
+ * with at most d mismatches, every text char updates all of them with a few shifts and ors
+ * <p>
+ * takes O(n * k) word operations whatever the text and the pattern look like
+ */
+public class HammingSearch
+{
+  private final int maxMismatches;
+
+  /**
+   * @param maxMismatches k, 0 is an exact search
+   */
+  public HammingSearch(int maxMismatches)
+  {
+    if (maxMismatches < 0) throw new IllegalArgumentException("maxMismatches can not be negative");
+
+    this.maxMismatches = maxMismatches;
+  }
+
+  /**
+   * @param array   to search in
+   * @param pattern at most 64 chars
+   * @return index of the first window that differs from the pattern in at most k chars, -1 if there is none
+   */
+  public int search(char[] array, char[] pattern)
+  {
+    if (array == null || pattern == null) return -1;
+    if (pattern.length == 0) return 0;
+
+    int[] first = {-1};
+    scan(array, pattern, start -> {
+      first[0] = start;
+      return false;
+    });
+
+    return first[0];
+  }
+
+  /**
+   * @return the start of every window within k mismatches in increasing order
+   */
+  public int[] searchAll(char[] array, char[] pattern)
+  {
+    if (array == null || pattern == null) return new int[0];
+    if (pattern.length == 0) return IntStream.rangeClosed(0, array.length).toArray();
+
+    IntStream.Builder matches = IntStream.builder();
+    scan(array, pattern, start -> {
+      matches.accept(start);
+      return true;
+    });
+
+    return matches.build().toArray();
+  }
+
+  private void scan(char[] array, char[] pattern, MatchHandler handler)
+  {
+    PatternMasks masks = new PatternMasks(pattern);
+    int m = pattern.length;
+    long last = 1L << (m - 1);
+
+//    more mismatches than chars can not change the result
+    int k = Math.min(maxMismatches, m);
+    long[] r = new long[k + 1];
+    Arrays.fill(r, ~0L);
+
+    for (int i = 0; i < array.length; i++)
+    {
+      long mismatch = ~masks.mask(array[i]);
+
+//      from the most mismatches down, so r[d - 1] still holds the value before this char
+      for (int d = k; d > 0; d--)
+      {
+        r[d] = ((r[d] << 1) | mismatch) & (r[d - 1] << 1);
+      }
+      r[0] = (r[0] << 1) | mismatch;
+
+      if ((r[k] & last) == 0 && !handler.match(i - m + 1)) return;
+    }
+  }
+
+  private interface MatchHandler
+  {
+    /**
+     * @return true to keep searching
+     */
+    boolean match(int index);
+  }
+}
@@ -0,0 +1,59 @@
+package org.aybarsacar.advancedAlgorithms.approximate;
+
+import java.util.Arrays;
+
+/**
+ * For every char the bit mask of the positions it takes in the pattern, bit i is set when pattern[i] == c
+ * the chars below 256 are looked up in an array, the few others of a pattern of at most 64 chars in a short list
+ */
+final class PatternMasks
+{
+  static final int MAX_LENGTH = Long.SIZE;
+
+  private static final int DENSE_LIMIT = 256;
+
+  private final long[] dense = new long[DENSE_LIMIT];
+  private final char[] wideChars;
+  private final long[] wideMasks;
+
+  PatternMasks(char[] pattern)
+  {
+    if (pattern.length > MAX_LENGTH) throw new IllegalArgumentException("The pattern can be at most " + MAX_LENGTH + " chars long");
+
+    char[] chars = new char[pattern.length];
+    long[] masks = new long[pattern.length];
+    int wide = 0;
+
+    for (int i = 0; i < pattern.length; i++)
+    {
+      char c = pattern[i];
+      if (c < DENSE_LIMIT)
+      {
+        dense[c] |= 1L << i;
+        continue;
+      }
+
+      int slot = 0;
+      while (slot < wide && chars[slot] != c)
+      {
+        slot++;
+      }
+      if (slot == wide) chars[wide++] = c;
+      masks[slot] |= 1L << i;
+    }
+
+    wideChars = Arrays.copyOf(chars, wide);
+    wideMasks = Arrays.copyOf(masks, wide);
+  }
+
+  long mask(char c)
+  {
+    if (c < DENSE_LIMIT) return dense[c];
+
+    for (int i = 0; i < wideChars.length; i++)
+    {
+      if (wideChars[i] == c) return wideMasks[i];
+    }
+    return 0;
+  }
+}
@@ -11,6 +11,7 @@ public class BoyerMoore
 
   /**
    * The main searching algorithm Boyer Moore
+   * compiles the pattern on every call, use compile to search many texts for the same pattern
    *
    * @param array
    * @param pattern
@@ -21,22 +22,29 @@ public class BoyerMoore
     if ((pattern == null || pattern.length == 0) && array != null) return 0;
     if (array == null) return -1;
 
-    int[] badCharTable = preComputeBadCharTable(pattern);
-    int[] suffixTable = preprocessSuffixTable(pattern);
+    return compile(pattern).search(array);
+  }
 
-    for (int i = pattern.length - 1, j; i < array.length; )
-    {
-      for (j = pattern.length - 1; pattern[j] == array[i]; --i, --j)
-      {
-//        j at the first position we found our match
-        if (j == 0) return i;
-      }
-
-//      good suffix allows us to escape 1 extra character horspool didn't allow us
-      i += Math.max(suffixTable[pattern.length - 1 - j], badCharTable[array[i]]);
-    }
+  /**
+   * builds the tables of the pattern once
+   *
+   * @param pattern at least one char
+   * @return an immutable pattern that can search any number of texts from any thread
+   */
+  public static BoyerMoorePattern compile(char[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    return new BoyerMoorePattern(pattern, new BoyerMoore().preprocessSuffixTable(pattern));
+  }
 
-    return -1;
+  /**
+   * @param pattern at least one byte
+   * @return an immutable matcher for ByteBuffers and memory mapped files
+   */
+  public static BoyerMooreBytePattern compile(byte[] pattern)
+  {
+    return new BoyerMooreBytePattern(pattern);
   }
 
   /**
@@ -0,0 +1,53 @@
+package org.aybarsacar.advancedAlgorithms.boyermoore;
+
+import org.aybarsacar.advancedAlgorithms.matcher.ByteMatcher;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The Boyer Moore search over bytes
+ * the tables are the ones of BoyerMoorePattern built from the bytes as the chars 0 to 255,
+ * so every byte has its own slot in the bad character table
+ */
+public final class BoyerMooreBytePattern implements ByteMatcher
+{
+  private final byte[] pattern;
+  private final int[] badCharTable;
+  private final int[] suffixTable;
+
+  BoyerMooreBytePattern(byte[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+
+    char[] chars = ByteMatcher.unsigned(this.pattern);
+    this.badCharTable = BoyerMooreHorspoolPattern.badCharTable(chars);
+    this.suffixTable = new BoyerMoore().preprocessSuffixTable(chars);
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  @Override
+  public int find(ByteBuffer text, int from)
+  {
+    if (text == null) return -1;
+
+    int last = pattern.length - 1;
+    for (int i = Math.max(from, 0) + last, j; i < text.limit(); )
+    {
+      for (j = last; pattern[j] == text.get(i); --i, --j)
+      {
+        if (j == 0) return i;
+      }
+
+      i += Math.max(suffixTable[last - j], badCharTable[text.get(i) & 0xFF]);
+    }
+
+    return -1;
+  }
+}
@@ -10,27 +10,26 @@ public class BoyerMooreHorspool
   //  we will assume our search will only happen in this range of characters
   private final int ASCII_TABLE_SIZE = 256;
 
+  /**
+   * compiles the pattern on every call, use compile to search many texts for the same pattern
+   */
   public int search(char[] array, char[] pattern)
   {
     if (array != null && (pattern == null || pattern.length == 0)) return 0;
     if (array == null) return -1;
 
-    int[] table = preprocessTable(pattern);
-
-    for (int i = pattern.length - 1; i < array.length;)
-    {
-//      where we will start matching against the pattern
-      for (int j = pattern.length - 1; pattern[j] == array[i]; i--, j--)
-      {
-        if (j == 0) return i; // 0 is we hit the first char in the pattern success!
-      }
-
-//      if it doesnt match we increase the i by the corresponding value in the table
-//      so we can skip characters
-      i+= table[array[i]];
-    }
+    return compile(pattern).search(array);
+  }
 
-    return -1;
+  /**
+   * builds the bad character table of the pattern once
+   *
+   * @param pattern at least one char
+   * @return an immutable pattern that can search any number of texts from any thread
+   */
+  public static BoyerMooreHorspoolPattern compile(char[] pattern)
+  {
+    return new BoyerMooreHorspoolPattern(pattern);
   }
 
   /**
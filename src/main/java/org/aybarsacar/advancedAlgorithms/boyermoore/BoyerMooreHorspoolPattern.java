@@ -0,0 +1,105 @@
+package org.aybarsacar.advancedAlgorithms.boyermoore;
+
+import org.aybarsacar.advancedAlgorithms.matcher.Matcher;
+
+/**
+ * A pattern compiled once for the Boyer Moore Horspool search
+ * holds the bad character table so searching many texts does not rebuild it,
+ * nothing changes after construction so one instance can be shared between threads
+ * <p>
+ * the table covers the chars below 256, every wider char shares one slot with the smallest shift
+ * any of them needs, so patterns and texts outside ASCII are searched correctly too
+ */
+public final class BoyerMooreHorspoolPattern implements Matcher
+{
+  static final int TABLE_SIZE = 256;
+
+  private final char[] pattern;
+  private final int[] table;
+
+  BoyerMooreHorspoolPattern(char[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+    this.table = badCharTable(this.pattern);
+  }
+
+  public int search(char[] array)
+  {
+    return search(array, 0);
+  }
+
+  /**
+   * @param from first index of the array a match may start at
+   * @return index of the first match at or after from, -1 if there is none
+   */
+  public int search(char[] array, int from)
+  {
+    return array == null ? -1 : search(array, from, array.length);
+  }
+
+  /**
+   * @param to index a match has to end before, the array is not read from there on
+   */
+  public int search(char[] array, int from, int to)
+  {
+    if (array == null) return -1;
+
+    to = Math.min(to, array.length);
+    int last = pattern.length - 1;
+    for (int end = Math.max(from, 0) + last; end < to; end += shift(table, array[end]))
+    {
+//      compare from the right, the shift depends only on the last char of the window
+//      shifting by the mismatched char after a partial match could move the window back
+      for (int i = end, j = last; pattern[j] == array[i]; i--, j--)
+      {
+        if (j == 0) return i;
+      }
+    }
+
+    return -1;
+  }
+
+  @Override
+  public int find(char[] text, int from, int to)
+  {
+    return search(text, from, to);
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  static int shift(int[] table, char c)
+  {
+    return table[c < TABLE_SIZE ? c : TABLE_SIZE];
+  }
+
+  /**
+   * the table of BoyerMooreHorspool.preprocessTable plus one last slot for the chars that do not fit
+   */
+  static int[] badCharTable(char[] pattern)
+  {
+    int[] table = new int[TABLE_SIZE + 1];
+    int m = pattern.length;
+
+    for (int i = 0; i < table.length; i++)
+    {
+      table[i] = m;
+    }
+
+    for (int t = 0; t < m - 1; t++)
+    {
+      int slot = Math.min(pattern[t], TABLE_SIZE);
+      table[slot] = Math.min(table[slot], Math.max(1, m - t - 1));
+    }
+
+    int lastSlot = Math.min(pattern[m - 1], TABLE_SIZE);
+    if (table[lastSlot] < m) table[lastSlot] = 1;
+
+    return table;
+  }
+}
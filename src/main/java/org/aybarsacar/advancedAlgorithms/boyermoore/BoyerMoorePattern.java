@@ -0,0 +1,73 @@
+package org.aybarsacar.advancedAlgorithms.boyermoore;
+
+import org.aybarsacar.advancedAlgorithms.matcher.Matcher;
+
+/**
+ * A pattern compiled once for the Boyer Moore search
+ * holds the bad character and the good suffix tables so searching many texts does not rebuild them,
+ * nothing changes after construction so one instance can be shared between threads
+ */
+public final class BoyerMoorePattern implements Matcher
+{
+  private final char[] pattern;
+  private final int[] badCharTable;
+  private final int[] suffixTable;
+
+  BoyerMoorePattern(char[] pattern, int[] suffixTable)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+    this.badCharTable = BoyerMooreHorspoolPattern.badCharTable(this.pattern);
+    this.suffixTable = suffixTable;
+  }
+
+  public int search(char[] array)
+  {
+    return search(array, 0);
+  }
+
+  /**
+   * @param from first index of the array a match may start at
+   * @return index of the first match at or after from, -1 if there is none
+   */
+  public int search(char[] array, int from)
+  {
+    return array == null ? -1 : search(array, from, array.length);
+  }
+
+  /**
+   * @param to index a match has to end before, the array is not read from there on
+   */
+  public int search(char[] array, int from, int to)
+  {
+    if (array == null) return -1;
+
+    int end = Math.min(to, array.length);
+    int last = pattern.length - 1;
+    for (int i = Math.max(from, 0) + last, j; i < end; )
+    {
+      for (j = last; pattern[j] == array[i]; --i, --j)
+      {
+        if (j == 0) return i;
+      }
+
+//      good suffix allows us to escape 1 extra character horspool didn't allow us
+      i += Math.max(suffixTable[last - j], BoyerMooreHorspoolPattern.shift(badCharTable, array[i]));
+    }
+
+    return -1;
+  }
+
+  @Override
+  public int find(char[] text, int from, int to)
+  {
+    return search(text, from, to);
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+}
@@ -38,6 +38,18 @@ public class BruteForce
     return -1;
   }
 
+  /**
+   * compiles the pattern for the Matcher interface, findAll there reports exactly the matches
+   * without the -1 padding of everyMatch
+   *
+   * @param pattern at least one char
+   * @return an immutable matcher
+   */
+  public static BruteForcePattern compile(char[] pattern)
+  {
+    return new BruteForcePattern(pattern);
+  }
+
   /**
    * This method searches for a pattern into an array
    * returns an array of int with the indexes of elements found
@@ -0,0 +1,43 @@
+package org.aybarsacar.advancedAlgorithms.bruteforce;
+
+import org.aybarsacar.advancedAlgorithms.matcher.Matcher;
+
+/**
+ * The brute force search behind the Matcher interface
+ * tries every position, useful as the reference the other matchers are checked against
+ */
+public final class BruteForcePattern implements Matcher
+{
+  private final char[] pattern;
+
+  BruteForcePattern(char[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  @Override
+  public int find(char[] text, int from, int to)
+  {
+    if (text == null) return -1;
+
+    for (int i = Math.max(from, 0); i <= Math.min(to, text.length) - pattern.length; i++)
+    {
+      for (int j = 0; j < pattern.length; j++)
+      {
+        if (text[i + j] != pattern[j]) break;
+
+        if (j == pattern.length - 1) return i;
+      }
+    }
+
+    return -1;
+  }
+}
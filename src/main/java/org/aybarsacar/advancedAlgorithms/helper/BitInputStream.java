@@ -0,0 +1,170 @@
+package org.aybarsacar.advancedAlgorithms.helper;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Reads the bit strings written by BitOutputStream
+ * bytes are pulled into a 64-bit accumulator most significant bit first
+ * so a decoder can peek at the next few bits and consume only what it used
+ * <p>
+ * once the underlying stream is exhausted peeking pads with zeros,
+ * consuming bits that were never written throws an EOFException
+ */
+public class BitInputStream extends InputStream
+{
+  private static final int BUFFER_SIZE = 8192;
+
+  private final InputStream in;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+  private int limit;
+  private boolean endOfStream;
+
+  //  unread bits live in the low bitCount bits of the accumulator
+  private long accumulator;
+  private int bitCount;
+
+  public BitInputStream(InputStream in)
+  {
+    this.in = in;
+  }
+
+  /**
+   * @param length number of bits in the range [0, 32]
+   * @return the next length bits without consuming them, zero padded past the end of the stream
+   */
+  public int peekBits(int length) throws IOException
+  {
+    if (length == 0) return 0;
+    if (bitCount < length) refill(length);
+
+    if (bitCount >= length)
+    {
+      return (int) ((accumulator >>> (bitCount - length)) & (0xFFFFFFFFL >>> (32 - length)));
+    }
+
+//    not enough bits left, shift the remaining ones up and pad with zeros
+    return (int) ((accumulator << (length - bitCount)) & (0xFFFFFFFFL >>> (32 - length)));
+  }
+
+  /**
+   * consumes bits previously looked at with peekBits
+   *
+   * @param length number of bits to drop
+   */
+  public void skipBits(int length) throws IOException
+  {
+    if (bitCount < length) refill(length);
+    if (bitCount < length) throw new EOFException("Unexpected end of the bit stream");
+
+    bitCount -= length;
+  }
+
+  /**
+   * @param length number of bits in the range [0, 32]
+   * @return the next length bits right aligned
+   */
+  public int readBits(int length) throws IOException
+  {
+    int value = peekBits(length);
+    skipBits(length);
+    return value;
+  }
+
+  public boolean readBit() throws IOException
+  {
+    return readBits(1) == 1;
+  }
+
+  /**
+   * reads a number written by BitOutputStream.writeVarInt
+   *
+   * @return the decoded number
+   */
+  public long readVarInt() throws IOException
+  {
+    long value = 0;
+    int shift = 0;
+
+    while (true)
+    {
+      int b = readBits(8);
+      value |= (long) (b & 0x7F) << shift;
+
+      if ((b & 0x80) == 0) return value;
+
+      shift += 7;
+      if (shift > 63) throw new IOException("Malformed variable length number");
+    }
+  }
+
+  /**
+   * single byte reads go through the bit accumulator so they can follow unaligned bits
+   *
+   * @return the next 8 bits or -1 if the stream is exhausted on a byte boundary
+   */
+  @Override
+  public int read() throws IOException
+  {
+    if (bitCount < 8) refill(8);
+    if (bitCount == 0) return -1;
+
+    return readBits(8);
+  }
+
+  /**
+   * drops the bits up to the next byte boundary
+   */
+  public void alignToByte()
+  {
+    bitCount -= bitCount % 8;
+  }
+
+  /**
+   * @return true if at least one more bit can be consumed
+   */
+  public boolean hasMoreBits() throws IOException
+  {
+    if (bitCount == 0) refill(1);
+    return bitCount > 0;
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    in.close();
+  }
+
+  /**
+   * tops the accumulator up with as many buffered bytes as fit
+   * the underlying stream is only read while fewer than length bits are available,
+   * so a decoder on a live stream does not block on bytes it does not need yet
+   *
+   * @param length number of bits the caller needs
+   */
+  private void refill(int length) throws IOException
+  {
+    while (bitCount <= 56)
+    {
+      if (position == limit)
+      {
+        if (endOfStream || bitCount >= length) return;
+
+        limit = in.read(buffer, 0, BUFFER_SIZE);
+        position = 0;
+
+        if (limit <= 0)
+        {
+          limit = 0;
+          endOfStream = true;
+          return;
+        }
+      }
+
+      accumulator = (accumulator << 8) | (buffer[position++] & 0xFF);
+      bitCount += 8;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package org.aybarsacar.advancedAlgorithms.helper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes bit strings of up to 32 bits into an underlying byte stream
+ * bits are packed most significant bit first through a 64-bit accumulator
+ * and full bytes are staged in a small buffer before they reach the stream
+ * <p>
+ * writeBits(0b101, 3) followed by writeBits(0b11, 2) -> 10111000
+ */
+public class BitOutputStream extends OutputStream
+{
+  private static final int BUFFER_SIZE = 8192;
+
+  private final OutputStream out;
+  private final byte[] buffer = new byte[BUFFER_SIZE];
+  private int position;
+
+  //  pending bits live in the low bitCount bits of the accumulator
+  private long accumulator;
+  private int bitCount;
+
+  public BitOutputStream(OutputStream out)
+  {
+    this.out = out;
+  }
+
+  /**
+   * appends the lowest length bits of value
+   *
+   * @param value  bits to write, right aligned
+   * @param length number of bits in the range [0, 32]
+   */
+  public void writeBits(int value, int length) throws IOException
+  {
+    if (length == 0) return;
+
+//    there are always fewer than 8 pending bits here, so 32 more always fit in 64
+    accumulator = (accumulator << length) | (value & (0xFFFFFFFFL >>> (32 - length)));
+    bitCount += length;
+
+    while (bitCount >= 8)
+    {
+      bitCount -= 8;
+      if (position == BUFFER_SIZE) drain();
+      buffer[position++] = (byte) (accumulator >>> bitCount);
+    }
+  }
+
+  public void writeBit(boolean bit) throws IOException
+  {
+    writeBits(bit ? 1 : 0, 1);
+  }
+
+  /**
+   * writes a non negative number 7 bits at a time, the high bit of every byte tells if more bytes follow
+   * small numbers such as frequencies and lengths take a single byte
+   *
+   * @param value to write
+   */
+  public void writeVarInt(long value) throws IOException
+  {
+    while ((value & ~0x7FL) != 0)
+    {
+      writeBits((int) ((value & 0x7F) | 0x80), 8);
+      value >>>= 7;
+    }
+    writeBits((int) value, 8);
+  }
+
+  /**
+   * single byte writes go through the bit accumulator so they can follow unaligned bits
+   */
+  @Override
+  public void write(int b) throws IOException
+  {
+    writeBits(b & 0xFF, 8);
+  }
+
+  /**
+   * pads the pending bits with zeros up to the next byte boundary
+   */
+  public void alignToByte() throws IOException
+  {
+    if (bitCount > 0) writeBits(0, 8 - bitCount);
+  }
+
+  /**
+   * @return true if no bits are waiting for a byte boundary
+   */
+  public boolean isAligned()
+  {
+    return bitCount == 0;
+  }
+
+  /**
+   * flushes the whole bytes, pending bits stay in the accumulator
+   */
+  @Override
+  public void flush() throws IOException
+  {
+    drain();
+    out.flush();
+  }
+
+  /**
+   * pads the last byte and closes the underlying stream
+   */
+  @Override
+  public void close() throws IOException
+  {
+    alignToByte();
+    flush();
+    out.close();
+  }
+
+  private void drain() throws IOException
+  {
+    if (position > 0)
+    {
+      out.write(buffer, 0, position);
+      position = 0;
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package org.aybarsacar.advancedAlgorithms.helper;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from int keys to int values
+ * keys and values live in two parallel primitive arrays, so nothing is boxed
+ * collisions are resolved with linear probing and the table doubles at 50% load
+ * <p>
+ * Integer.MIN_VALUE marks an empty slot and can not be used as a key
+ */
+public class IntIntHashMap
+{
+  private static final int EMPTY = Integer.MIN_VALUE;
+
+  private int[] keys;
+  private int[] values;
+  private int size;
+  private int mask;
+
+  public IntIntHashMap()
+  {
+    this(16);
+  }
+
+  public IntIntHashMap(int expectedSize)
+  {
+    int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+    allocate(capacity);
+  }
+
+  /**
+   * @return the value of the key or defaultValue if the key is not in the map
+   */
+  public int get(int key, int defaultValue)
+  {
+    int slot = find(key);
+    return keys[slot] == EMPTY ? defaultValue : values[slot];
+  }
+
+  public boolean containsKey(int key)
+  {
+    return keys[find(key)] != EMPTY;
+  }
+
+  public void put(int key, int value)
+  {
+    if (key == EMPTY) throw new IllegalArgumentException("Integer.MIN_VALUE can not be used as a key");
+
+    int slot = find(key);
+    if (keys[slot] == EMPTY)
+    {
+      keys[slot] = key;
+      values[slot] = value;
+      if (++size * 2 > keys.length) grow();
+      return;
+    }
+
+    values[slot] = value;
+  }
+
+  /**
+   * adds delta to the value of the key, a missing key starts from 0
+   *
+   * @return the new value
+   */
+  public int add(int key, int delta)
+  {
+    if (key == EMPTY) throw new IllegalArgumentException("Integer.MIN_VALUE can not be used as a key");
+
+    int slot = find(key);
+    if (keys[slot] == EMPTY)
+    {
+      keys[slot] = key;
+      values[slot] = delta;
+      if (++size * 2 > keys.length) grow();
+      return delta;
+    }
+
+    return values[slot] += delta;
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  /**
+   * @return every key in the map in no particular order
+   */
+  public int[] keys()
+  {
+    int[] result = new int[size];
+    int i = 0;
+    for (int key : keys)
+    {
+      if (key != EMPTY) result[i++] = key;
+    }
+    return result;
+  }
+
+  public void clear()
+  {
+    Arrays.fill(keys, EMPTY);
+    size = 0;
+  }
+
+  /**
+   * @return the slot holding the key or the empty slot where it would go
+   */
+  private int find(int key)
+  {
+    int slot = mix(key) & mask;
+    while (keys[slot] != EMPTY && keys[slot] != key)
+    {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * spreads neighbouring keys such as consecutive symbols over the table
+   */
+  private static int mix(int key)
+  {
+    int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  private void grow()
+  {
+    int[] oldKeys = keys;
+    int[] oldValues = values;
+
+    allocate(oldKeys.length * 2);
+
+    for (int i = 0; i < oldKeys.length; i++)
+    {
+      if (oldKeys[i] == EMPTY) continue;
+
+      int slot = find(oldKeys[i]);
+      keys[slot] = oldKeys[i];
+      values[slot] = oldValues[i];
+    }
+  }
+
+  private void allocate(int capacity)
+  {
+    keys = new int[capacity];
+    values = new int[capacity];
+    mask = capacity - 1;
+    Arrays.fill(keys, EMPTY);
+  }
+}
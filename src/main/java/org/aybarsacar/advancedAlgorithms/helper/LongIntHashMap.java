@@ -0,0 +1,151 @@
+package org.aybarsacar.advancedAlgorithms.helper;
+
+import java.util.Arrays;
+
+/**
+ * Open addressing hash map from long keys to int values, the long counterpart of IntIntHashMap
+ * keys and values live in two parallel primitive arrays, so nothing is boxed,
+ * a pair of ints such as (node, char) packs into one key without an object per entry
+ * <p>
+ * the table does not have to be a power of two, a hash is mapped onto it by a multiply and shift,
+ * so a large map can be sized for its load factor and trimToSize can shrink it to just that once it is full
+ * <p>
+ * Long.MIN_VALUE marks an empty slot and can not be used as a key
+ */
+public class LongIntHashMap
+{
+  public static final float DEFAULT_LOAD_FACTOR = 0.5f;
+
+  private static final long EMPTY = Long.MIN_VALUE;
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  private final float loadFactor;
+
+  private long[] keys;
+  private int[] values;
+  private int size;
+  private int threshold;
+
+  public LongIntHashMap()
+  {
+    this(16);
+  }
+
+  public LongIntHashMap(int expectedSize)
+  {
+    this(expectedSize, DEFAULT_LOAD_FACTOR);
+  }
+
+  /**
+   * @param expectedSize number of keys that fit without growing
+   * @param loadFactor   largest share of the slots in use, higher saves memory and makes a miss probe longer
+   */
+  public LongIntHashMap(int expectedSize, float loadFactor)
+  {
+    if (!(loadFactor > 0 && loadFactor < 1)) throw new IllegalArgumentException("The load factor has to be in (0, 1)");
+
+    this.loadFactor = loadFactor;
+    allocate(capacityFor(expectedSize));
+  }
+
+  /**
+   * @return the value of the key or defaultValue if the key is not in the map
+   */
+  public int get(long key, int defaultValue)
+  {
+    int slot = find(key);
+    return keys[slot] == EMPTY ? defaultValue : values[slot];
+  }
+
+  public boolean containsKey(long key)
+  {
+    return keys[find(key)] != EMPTY;
+  }
+
+  public void put(long key, int value)
+  {
+    if (key == EMPTY) throw new IllegalArgumentException("Long.MIN_VALUE can not be used as a key");
+
+    int slot = find(key);
+    if (keys[slot] == EMPTY)
+    {
+      keys[slot] = key;
+      values[slot] = value;
+      if (++size > threshold) rehash((int) Math.min(keys.length * 2L, MAX_CAPACITY));
+      return;
+    }
+
+    values[slot] = value;
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  public void clear()
+  {
+    Arrays.fill(keys, EMPTY);
+    size = 0;
+  }
+
+  /**
+   * shrinks the table to the smallest one that keeps the load factor for the keys in it
+   */
+  public void trimToSize()
+  {
+    int capacity = capacityFor(size);
+    if (capacity < keys.length) rehash(capacity);
+  }
+
+  /**
+   * @return the slot holding the key or the empty slot where it would go
+   */
+  private int find(long key)
+  {
+    int slot = (int) (((mix(key) & 0xFFFFFFFFL) * keys.length) >>> 32);
+    while (keys[slot] != EMPTY && keys[slot] != key)
+    {
+      if (++slot == keys.length) slot = 0;
+    }
+    return slot;
+  }
+
+  private static int mix(long key)
+  {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private int capacityFor(int expectedSize)
+  {
+//    one slot more than the load factor needs, so a probe always finds an empty slot
+    long capacity = (long) Math.ceil(Math.max(expectedSize, 1) / (double) loadFactor) + 1;
+    return (int) Math.min(Math.max(capacity, 4), MAX_CAPACITY);
+  }
+
+  private void rehash(int capacity)
+  {
+    long[] oldKeys = keys;
+    int[] oldValues = values;
+
+    allocate(capacity);
+
+    for (int i = 0; i < oldKeys.length; i++)
+    {
+      if (oldKeys[i] == EMPTY) continue;
+
+      int slot = find(oldKeys[i]);
+      keys[slot] = oldKeys[i];
+      values[slot] = oldValues[i];
+    }
+  }
+
+  private void allocate(int capacity)
+  {
+    keys = new long[capacity];
+    values = new int[capacity];
+    threshold = Math.min((int) (capacity * (double) loadFactor), capacity - 1);
+    Arrays.fill(keys, EMPTY);
+  }
+}
@@ -0,0 +1,78 @@
+package org.aybarsacar.advancedAlgorithms.helper;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * SIMD within a register: byte searches that test 8 bytes at a time in a long
+ * <p>
+ * the text is read a long at a time with ByteBuffer.getLong, xor with the byte repeated 8 times
+ * turns every equal byte into a zero byte and zeroBytes marks those in a single step,
+ * the index of the lowest mark is the index of the first match in the word
+ */
+public final class Swar
+{
+  private static final long LOW_SEVEN_BITS = 0x7F7F7F7F7F7F7F7FL;
+  private static final long ONES = 0x0101010101010101L;
+
+  private Swar()
+  {
+  }
+
+  /**
+   * @return the byte repeated in all 8 bytes of a long
+   */
+  public static long broadcast(byte b)
+  {
+    return (b & 0xFFL) * ONES;
+  }
+
+  /**
+   * marks the zero bytes of a word, exact so a mark is never set on a non zero byte
+   *
+   * @return 0x80 in every byte that is zero in the word, 0 in every other byte
+   */
+  public static long zeroBytes(long word)
+  {
+//    the low 7 bits plus 0x7F set the high bit unless they are all 0, and never carry into the next byte
+    long t = (word & LOW_SEVEN_BITS) + LOW_SEVEN_BITS;
+    return ~(t | word | LOW_SEVEN_BITS);
+  }
+
+  /**
+   * @param buffer read with absolute gets, its position is not changed
+   * @param b      byte to look for
+   * @param from   first index to look at
+   * @param to     index after the last one to look at
+   * @return index of the first b in [from, to), -1 if there is none
+   */
+  public static int indexOf(ByteBuffer buffer, byte b, int from, int to)
+  {
+    long pattern = broadcast(b);
+    boolean littleEndian = buffer.order() == ByteOrder.LITTLE_ENDIAN;
+
+    int i = Math.max(from, 0);
+    for (; i <= to - 8; i += 8)
+    {
+      long found = zeroBytes(buffer.getLong(i) ^ pattern);
+      if (found != 0)
+      {
+//        the first byte of the text is the lowest byte of a little endian long and the highest of a big endian one
+        int bit = littleEndian ? Long.numberOfTrailingZeros(found) : Long.numberOfLeadingZeros(found);
+        return i + (bit >>> 3);
+      }
+    }
+
+    for (; i < to; i++)
+    {
+      if (buffer.get(i) == b) return i;
+    }
+
+    return -1;
+  }
+
+  public static int indexOf(byte[] array, byte b, int from, int to)
+  {
+    return indexOf(ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN), b, from, to);
+  }
+}
@@ -0,0 +1,75 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decompresses the stream written by AdaptiveHuffmanOutputStream
+ * the tree is rebuilt symbol by symbol exactly like the writer built it,
+ * nothing is buffered beyond the bits of the current code
+ */
+public class AdaptiveHuffmanInputStream extends InputStream
+{
+  private final BitInputStream in;
+  private final AdaptiveHuffmanTree tree = new AdaptiveHuffmanTree();
+  private boolean finished;
+
+  public AdaptiveHuffmanInputStream(InputStream in)
+  {
+    this.in = new BitInputStream(in);
+  }
+
+  @Override
+  public int read() throws IOException
+  {
+    while (!finished)
+    {
+      int symbol = tree.decode(in);
+
+      if (symbol < AdaptiveHuffmanTree.EOF) return symbol;
+      if (symbol == AdaptiveHuffmanTree.EOF) finished = true;
+      else in.alignToByte();
+    }
+
+    return -1;
+  }
+
+  /**
+   * returns early at a flush point so a reader on a live stream gets the bytes without waiting for more
+   */
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException
+  {
+    if (length == 0) return 0;
+
+    int count = 0;
+    while (count < length && !finished)
+    {
+      int symbol = tree.decode(in);
+
+      if (symbol < AdaptiveHuffmanTree.EOF)
+      {
+        bytes[offset + count++] = (byte) symbol;
+      }
+      else if (symbol == AdaptiveHuffmanTree.EOF)
+      {
+        finished = true;
+      }
+      else
+      {
+        in.alignToByte();
+        if (count > 0) break;
+      }
+    }
+
+    return count == 0 ? -1 : count;
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    in.close();
+  }
+}
@@ -0,0 +1,69 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compresses a byte stream in a single pass with adaptive Huffman codes
+ * every byte is coded as soon as it is written with the code the tree has at that moment,
+ * so there is no frequency table, no header and no block to fill before output starts
+ * <p>
+ * flush pads to a byte boundary behind a FLUSH symbol so the reader can decode everything written so far,
+ * close ends the stream with the EOF symbol
+ */
+public class AdaptiveHuffmanOutputStream extends OutputStream
+{
+  private final BitOutputStream out;
+  private final AdaptiveHuffmanTree tree = new AdaptiveHuffmanTree();
+  private boolean closed;
+
+  public AdaptiveHuffmanOutputStream(OutputStream out)
+  {
+    this.out = new BitOutputStream(out);
+  }
+
+  @Override
+  public void write(int b) throws IOException
+  {
+    if (closed) throw new IOException("Stream closed");
+
+    tree.encode(b & 0xFF, out);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException
+  {
+    if (closed) throw new IOException("Stream closed");
+
+    for (int i = offset; i < offset + length; i++)
+    {
+      tree.encode(bytes[i] & 0xFF, out);
+    }
+  }
+
+  /**
+   * makes every byte written so far decodable by the reader
+   */
+  @Override
+  public void flush() throws IOException
+  {
+    if (closed) return;
+
+    tree.encode(AdaptiveHuffmanTree.FLUSH, out);
+    out.alignToByte();
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    if (closed) return;
+
+    tree.encode(AdaptiveHuffmanTree.EOF, out);
+    out.close();
+
+    closed = true;
+  }
+}
@@ -0,0 +1,208 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+import org.aybarsacar.advancedAlgorithms.helper.BitOutputStream;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * The FGK adaptive Huffman tree shared by AdaptiveHuffmanOutputStream and AdaptiveHuffmanInputStream
+ * <p>
+ * encoder and decoder start from the same empty tree and update it the same way after every symbol,
+ * so no frequency table is sent and nothing has to be seen in advance
+ * a symbol seen for the first time is sent as the code of the NYT (not yet transmitted) leaf
+ * followed by the symbol in SYMBOL_BITS raw bits, the NYT leaf then splits into itself and the new leaf
+ * <p>
+ * nodes live in arrays indexed by their FGK number, the root has the highest number
+ * and weights never decrease with the number (sibling property)
+ * before a weight goes up the node is swapped with the highest numbered node of the same weight,
+ * swapping positions moves whole subtrees since children are only reached through their parent
+ */
+final class AdaptiveHuffmanTree
+{
+  static final int EOF = 256;
+
+  //  tells the decoder the encoder padded to a byte boundary
+  static final int FLUSH = 257;
+
+  static final int SYMBOL_COUNT = 258;
+  static final int SYMBOL_BITS = 9;
+
+  //  the model starts over after this many symbols so the weights can not overflow
+  static final int RESET_INTERVAL = 1 << 24;
+
+  private static final int NODE_COUNT = 2 * SYMBOL_COUNT - 1;
+  private static final int ROOT = NODE_COUNT - 1;
+  private static final int NYT = -1;
+  private static final int INTERNAL = -2;
+
+  private final int[] weight = new int[NODE_COUNT];
+  private final int[] parent = new int[NODE_COUNT];
+  private final int[] left = new int[NODE_COUNT];
+  private final int[] right = new int[NODE_COUNT];
+  private final int[] symbol = new int[NODE_COUNT];
+  private final int[] leaf = new int[SYMBOL_COUNT];
+
+  private int nyt;
+
+  //  bits of one code from the leaf up, sent root first
+  private final int[] path = new int[NODE_COUNT];
+
+  AdaptiveHuffmanTree()
+  {
+    reset();
+  }
+
+  void encode(int value, BitOutputStream out) throws IOException
+  {
+    int node = leaf[value];
+    boolean known = node >= 0;
+
+    writePath(known ? node : nyt, out);
+    if (!known) out.writeBits(value, SYMBOL_BITS);
+
+    update(value);
+  }
+
+  int decode(BitInputStream in) throws IOException
+  {
+    int node = ROOT;
+    while (symbol[node] == INTERNAL)
+    {
+      node = in.readBit() ? right[node] : left[node];
+    }
+
+    int value = symbol[node];
+    if (value == NYT)
+    {
+      value = in.readBits(SYMBOL_BITS);
+      if (value >= SYMBOL_COUNT) throw new IOException("Invalid adaptive Huffman symbol " + value);
+    }
+
+    update(value);
+    return value;
+  }
+
+  private void writePath(int node, BitOutputStream out) throws IOException
+  {
+    int length = 0;
+    for (; node != ROOT; node = parent[node])
+    {
+      path[length++] = right[parent[node]] == node ? 1 : 0;
+    }
+
+//    up to 31 bits per write, the path was collected backwards
+    while (length > 0)
+    {
+      int chunk = Math.min(length, 31);
+      int bits = 0;
+      for (int i = 0; i < chunk; i++)
+      {
+        bits = (bits << 1) | path[--length];
+      }
+      out.writeBits(bits, chunk);
+    }
+  }
+
+  private void update(int value)
+  {
+    int node = leaf[value];
+
+    if (node < 0)
+    {
+//      the NYT leaf becomes an internal node with the new NYT on the left and the new symbol on the right
+      int old = nyt;
+      nyt = old - 2;
+      node = old - 1;
+
+      symbol[old] = INTERNAL;
+      left[old] = nyt;
+      right[old] = node;
+
+      initLeaf(nyt, NYT, old);
+      initLeaf(node, value, old);
+      leaf[value] = node;
+    }
+
+    while (node != ROOT)
+    {
+      int leader = node;
+      while (weight[leader + 1] == weight[node] && leader + 1 != ROOT) leader++;
+
+//      the parent can share the weight when the sibling is the empty NYT leaf
+      if (leader != node && leader != parent[node])
+      {
+        swap(node, leader);
+        node = leader;
+      }
+
+      weight[node]++;
+      node = parent[node];
+    }
+    weight[ROOT]++;
+
+    if (weight[ROOT] == RESET_INTERVAL) reset();
+  }
+
+  /**
+   * exchanges the subtrees at two positions, the positions keep their parents
+   */
+  private void swap(int a, int b)
+  {
+    int t = weight[a];
+    weight[a] = weight[b];
+    weight[b] = t;
+
+    t = symbol[a];
+    symbol[a] = symbol[b];
+    symbol[b] = t;
+
+    t = left[a];
+    left[a] = left[b];
+    left[b] = t;
+
+    t = right[a];
+    right[a] = right[b];
+    right[b] = t;
+
+    adopt(a);
+    adopt(b);
+  }
+
+  /**
+   * points the children or the leaf table back at the node after it moved
+   */
+  private void adopt(int node)
+  {
+    if (symbol[node] == INTERNAL)
+    {
+      parent[left[node]] = node;
+      parent[right[node]] = node;
+    }
+    else if (symbol[node] == NYT)
+    {
+      nyt = node;
+    }
+    else
+    {
+      leaf[symbol[node]] = node;
+    }
+  }
+
+  private void initLeaf(int node, int value, int parentNode)
+  {
+    weight[node] = 0;
+    symbol[node] = value;
+    parent[node] = parentNode;
+    left[node] = -1;
+    right[node] = -1;
+  }
+
+  private void reset()
+  {
+    Arrays.fill(leaf, -1);
+    nyt = ROOT;
+    initLeaf(ROOT, NYT, -1);
+  }
+}
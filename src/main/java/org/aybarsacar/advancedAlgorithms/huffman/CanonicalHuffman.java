@@ -0,0 +1,237 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Canonical Huffman codes
+ * only the length of every code matters, the codes themselves are handed out in order:
+ * shorter codes first and symbols of the same length in increasing symbol order
+ * so an encoder and a decoder that agree on the lengths agree on every code
+ * <p>
+ * lengths a=2, b=1, c=3, d=3 -> b=0, a=10, c=110, d=111
+ */
+public class CanonicalHuffman
+{
+  private CanonicalHuffman()
+  {
+  }
+
+  /**
+   * reads the depth of every leaf from a Huffman tree
+   * a tree made of a single leaf still gets a 1 bit code
+   *
+   * @param root         of the Huffman tree
+   * @param alphabetSize number of symbols, leaves hold symbols in the range [0, alphabetSize)
+   * @return code length per symbol, 0 for symbols not in the tree
+   */
+  public static int[] codeLengths(HuffmanNode root, int alphabetSize)
+  {
+    int[] lengths = new int[alphabetSize];
+    if (root != null) collectLengths(root, 0, lengths);
+    return lengths;
+  }
+
+  private static void collectLengths(HuffmanNode node, int depth, int[] lengths)
+  {
+    if (node.left == null && node.right == null)
+    {
+      lengths[node.c] = Math.max(1, depth);
+      return;
+    }
+
+    collectLengths(node.left, depth + 1, lengths);
+    collectLengths(node.right, depth + 1, lengths);
+  }
+
+  /**
+   * Huffman code lengths for the frequencies, built from a Huffman tree whose leaves are the array indexes
+   * if the tree is deeper than maxLength the package-merge lengths are used instead
+   *
+   * @param frequencies per symbol, 0 for unused symbols
+   * @param maxLength   longest code allowed
+   * @return code length per symbol, 0 for unused symbols
+   */
+  public static int[] optimalCodeLengths(int[] frequencies, int maxLength)
+  {
+    PriorityQueue<HuffmanNode> queue = new PriorityQueue<>(new FrequencyComparator());
+    for (int symbol = 0; symbol < frequencies.length; symbol++)
+    {
+      if (frequencies[symbol] > 0) queue.add(new HuffmanNode(symbol, frequencies[symbol]));
+    }
+
+    while (queue.size() > 1)
+    {
+      queue.add(new HuffmanNode(queue.poll(), queue.poll()));
+    }
+
+    int[] lengths = codeLengths(queue.poll(), frequencies.length);
+    if (maxLength(lengths) > maxLength) lengths = limitedCodeLengths(frequencies, maxLength);
+
+    return lengths;
+  }
+
+  /**
+   * optimal code lengths that never exceed maxLength, found with the package-merge algorithm
+   * <p>
+   * every symbol is a coin worth its frequency, at every level the cheapest coins are paired into packages
+   * and the packages are merged back with the original coins, the 2n - 2 cheapest items of the last level
+   * pick the codes: a symbol's length is how many times its coin appears inside them
+   * <p>
+   * a level is stored as weights and references, a reference below zero is the coin -(reference + 1),
+   * otherwise it is the package of items 2 * reference and 2 * reference + 1 of the previous level
+   *
+   * @param frequencies per symbol, 0 for unused symbols
+   * @param maxLength   longest code allowed
+   * @return code length per symbol, 0 for unused symbols
+   */
+  public static int[] limitedCodeLengths(int[] frequencies, int maxLength)
+  {
+    int[] lengths = new int[frequencies.length];
+
+    int n = 0;
+    for (int frequency : frequencies)
+    {
+      if (frequency > 0) n++;
+    }
+
+    if (n == 0) return lengths;
+    if (n > (1L << maxLength))
+    {
+      throw new IllegalArgumentException(n + " symbols do not fit in codes of " + maxLength + " bits");
+    }
+
+//    coins sorted by frequency, ties keep the symbol order
+    int[] symbols = new int[n];
+    long[] coins = new long[n];
+    for (int symbol = 0, i = 0; symbol < frequencies.length; symbol++)
+    {
+      if (frequencies[symbol] > 0) coins[i++] = (long) frequencies[symbol] << 32 | symbol;
+    }
+    Arrays.sort(coins);
+    for (int i = 0; i < n; i++)
+    {
+      symbols[i] = (int) coins[i];
+      coins[i] >>>= 32;
+    }
+
+    if (n == 1)
+    {
+      lengths[symbols[0]] = 1;
+      return lengths;
+    }
+
+    long[][] weights = new long[maxLength][];
+    int[][] references = new int[maxLength][];
+
+    weights[0] = coins;
+    references[0] = new int[n];
+    for (int i = 0; i < n; i++)
+    {
+      references[0][i] = -(i + 1);
+    }
+
+    for (int level = 1; level < maxLength; level++)
+    {
+      long[] previous = weights[level - 1];
+      int packages = previous.length / 2;
+
+      long[] merged = new long[n + packages];
+      int[] mergedReferences = new int[n + packages];
+
+      int coin = 0, pack = 0;
+      for (int i = 0; i < merged.length; i++)
+      {
+        long packageWeight = pack < packages ? previous[2 * pack] + previous[2 * pack + 1] : Long.MAX_VALUE;
+
+        if (coin < n && coins[coin] <= packageWeight)
+        {
+          merged[i] = coins[coin];
+          mergedReferences[i] = -(coin + 1);
+          coin++;
+        }
+        else
+        {
+          merged[i] = packageWeight;
+          mergedReferences[i] = pack;
+          pack++;
+        }
+      }
+
+      weights[level] = merged;
+      references[level] = mergedReferences;
+    }
+
+    int[] coinCount = new int[n];
+    for (int i = 0; i < 2 * n - 2; i++)
+    {
+      countCoins(references, maxLength - 1, i, coinCount);
+    }
+
+    for (int i = 0; i < n; i++)
+    {
+      lengths[symbols[i]] = coinCount[i];
+    }
+
+    return lengths;
+  }
+
+  private static void countCoins(int[][] references, int level, int item, int[] coinCount)
+  {
+    int reference = references[level][item];
+
+    if (reference < 0)
+    {
+      coinCount[-reference - 1]++;
+      return;
+    }
+
+    countCoins(references, level - 1, 2 * reference, coinCount);
+    countCoins(references, level - 1, 2 * reference + 1, coinCount);
+  }
+
+  /**
+   * assigns the canonical codes for the given lengths
+   *
+   * @param lengths code length per symbol, 0 for unused symbols
+   * @return code per symbol, right aligned in the low length bits
+   */
+  public static int[] codes(int[] lengths)
+  {
+    int maxLength = maxLength(lengths);
+
+//    how many codes there are of each length
+    int[] lengthCount = new int[maxLength + 1];
+    for (int length : lengths)
+    {
+      if (length > 0) lengthCount[length]++;
+    }
+
+//    the first code of every length follows the last code of the previous length
+    int[] nextCode = new int[maxLength + 1];
+    int code = 0;
+    for (int length = 1; length <= maxLength; length++)
+    {
+      code = (code + lengthCount[length - 1]) << 1;
+      nextCode[length] = code;
+    }
+
+    int[] codes = new int[lengths.length];
+    for (int symbol = 0; symbol < lengths.length; symbol++)
+    {
+      if (lengths[symbol] > 0) codes[symbol] = nextCode[lengths[symbol]]++;
+    }
+
+    return codes;
+  }
+
+  public static int maxLength(int[] lengths)
+  {
+    int max = 0;
+    for (int length : lengths)
+    {
+      max = Math.max(max, length);
+    }
+    return max;
+  }
+}
@@ -8,6 +8,7 @@ public class FrequencyComparator implements Comparator<HuffmanNode>
   public int compare(HuffmanNode first, HuffmanNode second)
   {
 //    which position the object being compared will take into the priority queue
-    return first.frequency - second.frequency;
+//    Integer.compare so large frequencies can not overflow the difference
+    return Integer.compare(first.frequency, second.frequency);
   }
 }
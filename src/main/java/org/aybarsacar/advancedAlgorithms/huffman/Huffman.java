@@ -1,15 +1,35 @@
 package org.aybarsacar.advancedAlgorithms.huffman;
 
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+import org.aybarsacar.advancedAlgorithms.helper.BitOutputStream;
+import org.aybarsacar.advancedAlgorithms.helper.IntIntHashMap;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.PriorityQueue;
 
 /**
- * this implementation does not accept - as a character
- * - is used to represent the root nodes for the characters
- * only characters are leaf
+ * Huffman coding over the whole UTF-16 char range
+ * only characters are leaf, leaves are found by their missing children
+ * so any char including - can be encoded
+ * <p>
+ * compress and decompress keep the readable 0 and 1 format,
+ * compressToBytes and compressCodePoints produce packed bits built on HuffmanCode
+ * <p>
+ * both formats count through SymbolFrequencies and only go over the chars that occur,
+ * the int[] versions of the table methods stay for callers that already have a full table
  */
 public class Huffman
 {
-  final int CHARACTER_LIMIT = 256;
+  final int CHARACTER_LIMIT = Character.MAX_VALUE + 1;
+
+  //  chars below it index the code tables directly
+  private static final int DENSE_LIMIT = 256;
+
+  //  header of the last compress or createPriorityQueue call, only kept for callers that split it off
+  //  the codec never reads it back, see HuffmanCodec for an instance shared between threads
   StringBuilder header = new StringBuilder();
 
   /**
@@ -21,12 +41,15 @@ public class Huffman
    */
   public String compress(char[] text)
   {
-    int[] frequencies = createFrequencyTable(text);
-    PriorityQueue<HuffmanNode> queue = createPriorityQueue(frequencies);
+    SymbolFrequencies frequencies = new SymbolFrequencies();
+    frequencies.addChars(text);
+    StringBuilder textHeader = new StringBuilder();
+    PriorityQueue<HuffmanNode> queue = createPriorityQueue(frequencies, textHeader);
     HuffmanNode root = createHuffmanTree(queue);
+    header = textHeader;
 
 //    replace the string with the compressed bites
-    return header.toString() + encodeString(text, root);
+    return textHeader.toString() + encodeString(text, root);
   }
 
   /**
@@ -38,8 +61,8 @@ public class Huffman
   public char[] decompress(char[] encodedText)
   {
     if (encodedText[0] != (char) 1) return null;
-    int[] frequencies = parseHeaderAsFrequency(encodedText);
-    PriorityQueue<HuffmanNode> queue = createPriorityQueue(frequencies);
+    SymbolFrequencies frequencies = parseHeader(encodedText);
+    PriorityQueue<HuffmanNode> queue = createPriorityQueue(frequencies, new StringBuilder());
     HuffmanNode root = createHuffmanTree(queue);
 
     String decompressed = decodeString(encodedText, root);
@@ -47,6 +70,116 @@ public class Huffman
     return decompressed.toCharArray();
   }
 
+  /**
+   * Compresses any UTF-16 text into packed bits
+   * unlike compress the result is binary: varint length | HuffmanCode header | codes
+   *
+   * @param text to compress, every char is a symbol
+   * @return the compressed bytes
+   */
+  public byte[] compressToBytes(char[] text)
+  {
+    SymbolFrequencies frequencies = new SymbolFrequencies();
+    frequencies.addChars(text);
+    HuffmanCode code = HuffmanCode.fromFrequencies(frequencies);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (BitOutputStream out = new BitOutputStream(bytes))
+    {
+      out.writeVarInt(text.length);
+      code.write(out);
+
+      for (char c : text)
+      {
+        code.encode(c, out);
+      }
+    } catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Decodes the bytes produced by compressToBytes
+   *
+   * @param compressed bytes
+   * @return the original chars
+   */
+  public char[] decompressFromBytes(byte[] compressed) throws IOException
+  {
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(compressed));
+
+    long length = in.readVarInt();
+    if (length > Integer.MAX_VALUE) throw new IOException("Corrupt length " + length);
+    HuffmanCode code = HuffmanCode.read(in);
+
+    char[] text = new char[(int) length];
+    for (int i = 0; i < text.length; i++)
+    {
+      text[i] = (char) code.decode(in);
+    }
+
+    return text;
+  }
+
+  /**
+   * Compresses a text by its Unicode code points, a surrogate pair is a single symbol
+   * same layout as compressToBytes with the number of code points as the length
+   *
+   * @param text to compress
+   * @return the compressed bytes
+   */
+  public byte[] compressCodePoints(CharSequence text)
+  {
+    SymbolFrequencies frequencies = new SymbolFrequencies();
+    frequencies.addCodePoints(text);
+    HuffmanCode code = HuffmanCode.fromFrequencies(frequencies);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (BitOutputStream out = new BitOutputStream(bytes))
+    {
+      out.writeVarInt(Character.codePointCount(text, 0, text.length()));
+      code.write(out);
+
+      for (int i = 0; i < text.length(); )
+      {
+        int codePoint = Character.codePointAt(text, i);
+        code.encode(codePoint, out);
+        i += Character.charCount(codePoint);
+      }
+    } catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Decodes the bytes produced by compressCodePoints
+   *
+   * @param compressed bytes
+   * @return the original text
+   */
+  public String decompressCodePoints(byte[] compressed) throws IOException
+  {
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(compressed));
+
+    long length = in.readVarInt();
+    if (length > Integer.MAX_VALUE) throw new IOException("Corrupt length " + length);
+    HuffmanCode code = HuffmanCode.read(in);
+
+    StringBuilder sb = new StringBuilder();
+    for (long i = 0; i < length; i++)
+    {
+      sb.appendCodePoint(code.decode(in));
+    }
+
+    return sb.toString();
+  }
+
   /**
    * parses the header to frequency table
    * header starts with char 1 ands with char 2 from ASCII table
@@ -58,17 +191,30 @@ public class Huffman
    */
   public int[] parseHeaderAsFrequency(char[] text)
   {
+    SymbolFrequencies parsed = parseHeader(text);
+
     int[] frequencies = new int[CHARACTER_LIMIT];
+    for (int c : parsed.symbols())
+    {
+      frequencies[c] = parsed.get(c);
+    }
+
+    return frequencies;
+  }
+
+  /**
+   * same as parseHeaderAsFrequency but only keeps the chars in the header
+   */
+  private SymbolFrequencies parseHeader(char[] text)
+  {
+    SymbolFrequencies frequencies = new SymbolFrequencies();
     int i = 0;
 
     for (; i < text.length && text[i] != (char) 2; i++)
     {
-      header.append(text[i]);
-
       if (text[i] == ':')
       {
         i++;
-        header.append(text[i]);
 
         int frequency = 0;
         int multiplier = 1;
@@ -78,10 +224,9 @@ public class Huffman
         {
           frequency = (frequency * multiplier) + (text[j] - '0'); // - '0' so it will cast is as int
           if (frequency != 0) multiplier = 10;
-          header.append(text[i] - '0');
         }
 
-        frequencies[text[i]] = frequency;
+        frequencies.add(text[i], frequency);
         i = j - 1; // because when we loop it will increase 1 more anyways
       }
     }
@@ -89,21 +234,119 @@ public class Huffman
     return frequencies;
   }
 
+  /**
+   * finds where the bits start by walking the header the same way parseHeaderAsFrequency does
+   * a header symbol can be any char, even the end marker, so a plain search for char 2 is not enough
+   *
+   * @param text encoded text starting with the header
+   * @return index of the first bit
+   */
+  public int headerLength(char[] text)
+  {
+    int i = 1;
+    while (i < text.length && text[i] == ':')
+    {
+//      skip the : and the symbol, then the digits of its frequency
+      i += 2;
+      while (i < text.length && text[i] >= '0' && text[i] <= '9') i++;
+    }
+
+    return Math.min(i + 1, text.length);
+  }
+
+  /**
+   * writes the code of every char as 0 and 1 characters
+   * the codes are kept as bits in a long code[] and byte length[] table instead of one String per char,
+   * so the output can be sized exactly and filled without any per character allocation
+   *
+   * @param text
+   * @param root
+   * @return the encoded bits
+   */
   public String encodeString(char[] text, HuffmanNode root)
   {
-    StringBuilder sb = new StringBuilder();
+//    chars from 256 up get the places after the first 256, so the tables only grow with the chars in the tree
+    IntIntHashMap slots = new IntIntHashMap();
+    int slotCount = assignSlots(root, slots, DENSE_LIMIT);
 
-    String[] array = new String[CHARACTER_LIMIT];
+    long[] codes = new long[slotCount];
+    byte[] lengths = new byte[slotCount];
 
 //    we need to generate the binaries (bytes)
-    generateBytes(array, root, new StringBuilder());
+    generateCodes(codes, lengths, slots, root, 0, 0);
 
-    for (int i = 0; i < text.length; i++)
+    long size = 0;
+    for (char c : text)
     {
-      sb.append(array[text[i]]);
+      size += lengths[slot(c, slots)];
     }
+    if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("The encoded text does not fit in a String");
 
-    return sb.toString();
+    char[] bits = new char[(int) size];
+    int position = 0;
+
+    for (char c : text)
+    {
+      int slot = slot(c, slots);
+      long code = codes[slot];
+      for (int bit = lengths[slot] - 1; bit >= 0; bit--)
+      {
+        bits[position++] = (char) ('0' + ((code >>> bit) & 1));
+      }
+    }
+
+    return new String(bits);
+  }
+
+  /**
+   * same codes as generateBytes but as bits, the path to a leaf is its code
+   * a tree over at most 2^31 chars is less than 64 levels deep so the code fits in a long
+   */
+  public void generateCodes(long[] codes, byte[] lengths, HuffmanNode node, long code, int length)
+  {
+    generateCodes(codes, lengths, null, node, code, length);
+  }
+
+  /**
+   * @param slots where the codes of chars from 256 up go, null to index the tables by the char
+   */
+  private void generateCodes(long[] codes, byte[] lengths, IntIntHashMap slots, HuffmanNode node, long code, int length)
+  {
+    if (isLeaf(node))
+    {
+      int slot = slots == null ? node.c : slot(node.c, slots);
+
+//      a tree with a single leaf still needs one bit
+      codes[slot] = code;
+      lengths[slot] = (byte) Math.max(length, 1);
+      return;
+    }
+
+    generateCodes(codes, lengths, slots, node.left, code << 1, length + 1);
+    generateCodes(codes, lengths, slots, node.right, (code << 1) | 1, length + 1);
+  }
+
+  /**
+   * gives every leaf char from 256 up the next free slot
+   *
+   * @return number of slots used so far
+   */
+  private int assignSlots(HuffmanNode node, IntIntHashMap slots, int next)
+  {
+    if (node == null) return next;
+
+    if (isLeaf(node))
+    {
+      if (node.c >= DENSE_LIMIT && !slots.containsKey(node.c)) slots.put(node.c, next++);
+      return next;
+    }
+
+    return assignSlots(node.right, slots, assignSlots(node.left, slots, next));
+  }
+
+  private static int slot(int c, IntIntHashMap slots)
+  {
+    return c < DENSE_LIMIT ? c : slots.get(c, -1);
   }
 
   /**
@@ -118,15 +361,23 @@ public class Huffman
     StringBuilder sb = new StringBuilder();
 
     HuffmanNode current = root;
-    for (int i = header.length(); i < text.length; i++)
+    for (int i = headerLength(text); i < text.length; i++)
     {
+      if (isLeaf(root))
+      {
+//        a single character text, every bit is that character
+        sb.append((char) root.c);
+        continue;
+      }
+
+
       if (text[i] - '0' == 0) current = current.left;
       else if (text[i] - '0' == 1) current = current.right;
 
       if (isLeaf(current))
       {
 //        it is a leaf so assign the character of that bnode
-        sb.append(current.c);
+        sb.append((char) current.c);
 //        reset the root
         current = root;
       }
@@ -142,7 +393,7 @@ public class Huffman
 
   public void generateBytes(String[] array, HuffmanNode root, StringBuilder sb)
   {
-    if (root.c == '-')
+    if (!isLeaf(root))
     {
 //      so it is not a leaf
 //      traverse to the left
@@ -156,10 +407,12 @@ public class Huffman
     else
     {
 //      so it is a leaf now
-//      breaking condition
-      array[root.c] = sb.toString();
-      sb.deleteCharAt(sb.length() - 1);
+//      breaking condition, a tree with a single leaf still needs one bit
+      array[root.c] = sb.length() == 0 ? "0" : sb.toString();
     }
+
+//    give back the bit the parent appended for this node
+    if (sb.length() > 0) sb.deleteCharAt(sb.length() - 1);
   }
 
   //  Create Frequency Table
@@ -185,20 +438,31 @@ public class Huffman
    */
   public PriorityQueue<HuffmanNode> createPriorityQueue(int[] frequencies)
   {
+    SymbolFrequencies counted = new SymbolFrequencies();
+    for (int i = 0; i < frequencies.length; i++)
+    {
+      counted.add(i, frequencies[i]);
+    }
+
     header = new StringBuilder();
+    return createPriorityQueue(counted, header);
+  }
 
+  /**
+   * same as createPriorityQueue but writes the header into the given builder instead of the field
+   */
+  private PriorityQueue<HuffmanNode> createPriorityQueue(SymbolFrequencies frequencies, StringBuilder header)
+  {
 //    char to indicate the beginning the of the header
     header.append((char) 1);
 
-    PriorityQueue<HuffmanNode> queue = new PriorityQueue<>(1, new FrequencyComparator());
+    PriorityQueue<HuffmanNode> queue = new PriorityQueue<>(Math.max(frequencies.size(), 1), new FrequencyComparator());
 
-    for (int i = 0; i < frequencies.length; i++)
+//    only the chars that occur, in increasing order
+    for (int i : frequencies.symbols())
     {
-      if (frequencies[i] > 0)
-      {
-        queue.add(new HuffmanNode((char) i, frequencies[i]));
-        header.append(":").append((char) i).append(frequencies[i]);
-      }
+      queue.add(new HuffmanNode((char) i, frequencies.get(i)));
+      header.append(":").append((char) i).append(frequencies.get(i));
     }
 
 //    char to indicate the end the of the header
@@ -215,20 +479,14 @@ public class Huffman
    */
   public HuffmanNode createHuffmanTree(PriorityQueue<HuffmanNode> queue)
   {
-    HuffmanNode root = null;
-    while (queue.size() > 0)
+    while (queue.size() > 1)
     {
-      root = pullLeastUsedAsNode(queue);
-
-      if (queue.size() > 0)
-      {
-//        add the root we create back to the queue
-        queue.add(root);
-
-      }
+//      add the root we create back to the queue
+      queue.add(pullLeastUsedAsNode(queue));
     }
 
-    return root;
+//    a text with a single distinct character leaves that leaf as the root
+    return queue.poll();
   }
 
   /**
@@ -245,10 +503,6 @@ public class Huffman
     HuffmanNode node2 = queue.poll();
 
 //    create the root for the 2 nodes we pulled and assign them as left and right
-    HuffmanNode root = new HuffmanNode('-', node1.frequency + node2.frequency);
-    root.left = node1;
-    root.right = node2;
-
-    return root;
+    return new HuffmanNode(node1, node2);
   }
 }
@@ -0,0 +1,77 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+
+import java.io.IOException;
+
+/**
+ * Layout and decoder of one self contained Huffman block
+ * shared by the streams and the block parallel container, HuffmanEncoder writes the blocks
+ * <p>
+ * block layout, every block starts and ends on a byte boundary:
+ * varint symbol count | 1 bit dense flag | code lengths | packed codes
+ * sparse lengths: 8 bits distinct symbols - 1 | (8 bits symbol, 4 bits length)*
+ * dense lengths: 4 bits length for each of the 256 symbols, 0 for unused ones
+ * <p>
+ * only the code lengths are stored, both sides derive the same canonical codes from them
+ * lengths are capped at MAX_CODE_LENGTH, a deeper Huffman tree is replaced by package-merge lengths
+ */
+final class HuffmanBlock
+{
+  static final int ALPHABET_SIZE = 256;
+
+  //  fits in the 4 bits of the header and keeps the secondary decode tables small
+  static final int MAX_CODE_LENGTH = 15;
+
+  private HuffmanBlock()
+  {
+  }
+
+  /**
+   * decodes the rest of a block whose symbol count the caller already read
+   *
+   * @param count  symbols in the block
+   * @param target receives the decoded bytes starting at offset
+   */
+  static void decode(BitInputStream in, int count, byte[] target, int offset) throws IOException
+  {
+    HuffmanDecodeTable table;
+    try
+    {
+      table = new HuffmanDecodeTable(readLengths(in));
+    } catch (IllegalArgumentException e)
+    {
+      throw new IOException("Corrupt Huffman block header", e);
+    }
+
+    for (int i = offset; i < offset + count; i++)
+    {
+      target[i] = (byte) table.decode(in);
+    }
+
+    in.alignToByte();
+  }
+
+  private static int[] readLengths(BitInputStream in) throws IOException
+  {
+    int[] lengths = new int[ALPHABET_SIZE];
+
+    if (in.readBit())
+    {
+      for (int symbol = 0; symbol < lengths.length; symbol++)
+      {
+        lengths[symbol] = in.readBits(4);
+      }
+      return lengths;
+    }
+
+    int distinct = in.readBits(8) + 1;
+    for (int i = 0; i < distinct; i++)
+    {
+      int symbol = in.readBits(8);
+      lengths[symbol] = in.readBits(4);
+    }
+
+    return lengths;
+  }
+}
@@ -0,0 +1,164 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+import org.aybarsacar.advancedAlgorithms.helper.BitOutputStream;
+import org.aybarsacar.advancedAlgorithms.helper.IntIntHashMap;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * A canonical Huffman code over any set of int symbols: bytes, UTF-16 chars or Unicode code points
+ * <p>
+ * the symbols are kept sorted and every other table is indexed by the position of the symbol,
+ * so the code lengths, the canonical codes and the decode table only grow with the number of
+ * distinct symbols and never with the size of the alphabet
+ * <p>
+ * header layout: varint symbol count | (varint gap to the previous symbol, 5 bits length)*
+ */
+public class HuffmanCode
+{
+  //  enough for every Unicode code point to get a code
+  public static final int MAX_CODE_LENGTH = 24;
+
+  private static final int DENSE_LIMIT = 256;
+
+  private final int[] symbols;
+  private final int[] lengths;
+  private final int[] codes;
+
+  //  symbol -> position, small symbols skip the hash lookup
+  private final int[] denseIndex = new int[DENSE_LIMIT];
+  private final IntIntHashMap sparseIndex;
+
+  private final HuffmanDecodeTable table;
+
+  /**
+   * @param symbols distinct symbols in increasing order
+   * @param lengths code length of every symbol, at most MAX_CODE_LENGTH
+   */
+  public HuffmanCode(int[] symbols, int[] lengths)
+  {
+    if (symbols.length != lengths.length) throw new IllegalArgumentException("One length per symbol");
+
+    for (int i = 0; i < symbols.length; i++)
+    {
+      if (symbols[i] < 0 || (i > 0 && symbols[i] <= symbols[i - 1]))
+      {
+        throw new IllegalArgumentException("Symbols have to be distinct, positive and sorted");
+      }
+      if (lengths[i] < 1 || lengths[i] > MAX_CODE_LENGTH)
+      {
+        throw new IllegalArgumentException("Code lengths have to be in the range [1, " + MAX_CODE_LENGTH + "]");
+      }
+    }
+
+    this.symbols = symbols.clone();
+    this.lengths = lengths.clone();
+    this.codes = CanonicalHuffman.codes(this.lengths);
+
+    Arrays.fill(denseIndex, -1);
+    sparseIndex = new IntIntHashMap(symbols.length);
+    for (int i = 0; i < symbols.length; i++)
+    {
+      if (symbols[i] < DENSE_LIMIT) denseIndex[symbols[i]] = i;
+      else sparseIndex.put(symbols[i], i);
+    }
+
+    table = symbols.length == 0 ? null : new HuffmanDecodeTable(this.lengths);
+  }
+
+  /**
+   * builds the optimal code for the counted symbols
+   */
+  public static HuffmanCode fromFrequencies(SymbolFrequencies frequencies)
+  {
+    int[] symbols = frequencies.symbols();
+
+    int[] counts = new int[symbols.length];
+    for (int i = 0; i < symbols.length; i++)
+    {
+      counts[i] = frequencies.get(symbols[i]);
+    }
+
+    return new HuffmanCode(symbols, CanonicalHuffman.optimalCodeLengths(counts, MAX_CODE_LENGTH));
+  }
+
+  public int size()
+  {
+    return symbols.length;
+  }
+
+  /**
+   * @return the code length of the symbol or 0 if the code can not encode it
+   */
+  public int length(int symbol)
+  {
+    int index = indexOf(symbol);
+    return index < 0 ? 0 : lengths[index];
+  }
+
+  public void encode(int symbol, BitOutputStream out) throws IOException
+  {
+    int index = indexOf(symbol);
+    if (index < 0) throw new IllegalArgumentException("Symbol " + symbol + " is not part of the code");
+
+    out.writeBits(codes[index], lengths[index]);
+  }
+
+  public int decode(BitInputStream in) throws IOException
+  {
+    if (table == null) throw new IOException("The code has no symbols");
+
+    return symbols[table.decode(in)];
+  }
+
+  /**
+   * writes the symbols and their lengths, the codes follow from them
+   */
+  public void write(BitOutputStream out) throws IOException
+  {
+    out.writeVarInt(symbols.length);
+
+    int previous = -1;
+    for (int i = 0; i < symbols.length; i++)
+    {
+      out.writeVarInt(symbols[i] - previous - 1);
+      out.writeBits(lengths[i], 5);
+      previous = symbols[i];
+    }
+  }
+
+  public static HuffmanCode read(BitInputStream in) throws IOException
+  {
+    long size = in.readVarInt();
+    if (size > Character.MAX_CODE_POINT + 1L) throw new IOException("Corrupt Huffman code header");
+
+    int[] symbols = new int[(int) size];
+    int[] lengths = new int[(int) size];
+
+    long previous = -1;
+    for (int i = 0; i < size; i++)
+    {
+      previous += in.readVarInt() + 1;
+      if (previous > Integer.MAX_VALUE) throw new IOException("Corrupt Huffman code header");
+
+      symbols[i] = (int) previous;
+      lengths[i] = in.readBits(5);
+    }
+
+    try
+    {
+      return new HuffmanCode(symbols, lengths);
+    } catch (IllegalArgumentException e)
+    {
+      throw new IOException("Corrupt Huffman code header", e);
+    }
+  }
+
+  private int indexOf(int symbol)
+  {
+    if (symbol >= 0 && symbol < DENSE_LIMIT) return denseIndex[symbol];
+    return sparseIndex.get(symbol, -1);
+  }
+}
@@ -0,0 +1,162 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+import org.aybarsacar.advancedAlgorithms.helper.BitOutputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * An immutable Huffman codec for a known distribution of symbols
+ * <p>
+ * the code is built once, from a frequency model or a ready code table,
+ * and every call only uses local state, so one instance can be shared by any number of threads
+ * and encode and decode calls can interleave freely
+ * <p>
+ * both sides already know the code so messages carry no header:
+ * varint symbol count | packed codes
+ * symbols the model never saw can not be encoded, count them in with a small frequency if they may appear
+ */
+public final class HuffmanCodec
+{
+  private final HuffmanCode code;
+
+  public HuffmanCodec(HuffmanCode code)
+  {
+    if (code.size() == 0) throw new IllegalArgumentException("The code has no symbols");
+
+    this.code = code;
+  }
+
+  /**
+   * builds the optimal codec for the distribution in the model
+   */
+  public static HuffmanCodec fromFrequencies(SymbolFrequencies model)
+  {
+    return new HuffmanCodec(HuffmanCode.fromFrequencies(model));
+  }
+
+  /**
+   * @return the code table, write it with HuffmanCode.write to share the codec
+   */
+  public HuffmanCode code()
+  {
+    return code;
+  }
+
+  public byte[] encode(byte[] data)
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 2 + 8);
+    try (BitOutputStream out = new BitOutputStream(bytes))
+    {
+      out.writeVarInt(data.length);
+      for (byte b : data)
+      {
+        code.encode(b & 0xFF, out);
+      }
+    } catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  public byte[] decode(byte[] encoded) throws IOException
+  {
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(encoded));
+
+    byte[] data = new byte[readLength(in)];
+    for (int i = 0; i < data.length; i++)
+    {
+      data[i] = (byte) checkRange(code.decode(in), 0xFF);
+    }
+
+    return data;
+  }
+
+  public byte[] encodeChars(char[] text)
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(text.length / 2 + 8);
+    try (BitOutputStream out = new BitOutputStream(bytes))
+    {
+      out.writeVarInt(text.length);
+      for (char c : text)
+      {
+        code.encode(c, out);
+      }
+    } catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  public char[] decodeChars(byte[] encoded) throws IOException
+  {
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(encoded));
+
+    char[] text = new char[readLength(in)];
+    for (int i = 0; i < text.length; i++)
+    {
+      text[i] = (char) checkRange(code.decode(in), Character.MAX_VALUE);
+    }
+
+    return text;
+  }
+
+  public byte[] encodeCodePoints(CharSequence text)
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(text.length() / 2 + 8);
+    try (BitOutputStream out = new BitOutputStream(bytes))
+    {
+      out.writeVarInt(Character.codePointCount(text, 0, text.length()));
+      for (int i = 0; i < text.length(); )
+      {
+        int codePoint = Character.codePointAt(text, i);
+        code.encode(codePoint, out);
+        i += Character.charCount(codePoint);
+      }
+    } catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+
+    return bytes.toByteArray();
+  }
+
+  public String decodeCodePoints(byte[] encoded) throws IOException
+  {
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(encoded));
+
+    int length = readLength(in);
+    StringBuilder sb = new StringBuilder(length);
+    for (int i = 0; i < length; i++)
+    {
+      sb.appendCodePoint(checkRange(code.decode(in), Character.MAX_CODE_POINT));
+    }
+
+    return sb.toString();
+  }
+
+  private static int readLength(BitInputStream in) throws IOException
+  {
+    long length = in.readVarInt();
+    if (length > Integer.MAX_VALUE) throw new IOException("Corrupt length " + length);
+
+    return (int) length;
+  }
+
+  /**
+   * a code shared between the methods may hold symbols the caller's type can not represent
+   */
+  private static int checkRange(int symbol, int max) throws IOException
+  {
+    if (symbol > max) throw new IOException("Symbol " + symbol + " does not fit, expected at most " + max);
+
+    return symbol;
+  }
+}
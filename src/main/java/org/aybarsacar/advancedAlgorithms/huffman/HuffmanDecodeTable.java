@@ -0,0 +1,131 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+
+import java.io.IOException;
+
+/**
+ * Decodes canonical Huffman codes with lookup tables instead of walking the tree bit by bit
+ * <p>
+ * the primary table is indexed by the next PRIMARY_BITS bits of the stream,
+ * every code that fits is repeated in all the slots that start with it
+ * so one lookup gives both the symbol and how many bits it used
+ * <p>
+ * codes longer than PRIMARY_BITS share a prefix slot which points to a secondary table
+ * indexed by the bits after the prefix, they are rare because long codes mean rare symbols
+ * <p>
+ * entry layout:
+ * 0                                  -> no code starts with these bits
+ * symbol << 8 | length               -> a code, length counts the bits this table consumes
+ * SUBTABLE | offset << 5 | subBits   -> continue in the secondary table
+ */
+public class HuffmanDecodeTable
+{
+  public static final int PRIMARY_BITS = 10;
+
+  private static final int SUBTABLE = 1 << 31;
+
+  private final int primaryBits;
+  private final int[] primary;
+  private final int[] secondary;
+
+  /**
+   * @param lengths canonical code length per symbol, 0 for unused symbols
+   */
+  public HuffmanDecodeTable(int[] lengths)
+  {
+    int maxLength = CanonicalHuffman.maxLength(lengths);
+    if (maxLength == 0) throw new IllegalArgumentException("There has to be at least one code");
+    if (maxLength > 32) throw new IllegalArgumentException("Codes can be at most 32 bits long");
+
+//    more codes than the lengths leave room for would run off the end of the tables
+    long kraft = 0;
+    for (int length : lengths)
+    {
+      if (length > 0) kraft += 1L << (maxLength - length);
+    }
+    if (kraft > 1L << maxLength) throw new IllegalArgumentException("The code lengths are oversubscribed");
+
+    int[] codes = CanonicalHuffman.codes(lengths);
+
+    primaryBits = Math.min(PRIMARY_BITS, maxLength);
+    primary = new int[1 << primaryBits];
+
+//    the longest code under every prefix decides how big its secondary table is
+    int[] subBits = new int[primary.length];
+    for (int symbol = 0; symbol < lengths.length; symbol++)
+    {
+      int length = lengths[symbol];
+      if (length <= primaryBits) continue;
+
+      int prefix = codes[symbol] >>> (length - primaryBits);
+      subBits[prefix] = Math.max(subBits[prefix], length - primaryBits);
+    }
+
+    int secondarySize = 0;
+    for (int prefix = 0; prefix < primary.length; prefix++)
+    {
+      if (subBits[prefix] == 0) continue;
+
+      primary[prefix] = SUBTABLE | (secondarySize << 5) | subBits[prefix];
+      secondarySize += 1 << subBits[prefix];
+    }
+    secondary = new int[secondarySize];
+
+    for (int symbol = 0; symbol < lengths.length; symbol++)
+    {
+      int length = lengths[symbol];
+      if (length == 0) continue;
+
+      if (length <= primaryBits)
+      {
+        fill(primary, 0, codes[symbol], length, primaryBits, symbol << 8 | length);
+      }
+      else
+      {
+        int remaining = length - primaryBits;
+        int entry = primary[codes[symbol] >>> remaining];
+        int offset = (entry >>> 5) & 0x3FFFFFF;
+
+        fill(secondary, offset, codes[symbol] & ((1 << remaining) - 1), remaining, entry & 0x1F,
+            symbol << 8 | remaining);
+      }
+    }
+  }
+
+  /**
+   * a code of length bits in a table indexed by tableBits bits owns every slot that starts with it
+   */
+  private static void fill(int[] table, int offset, int code, int length, int tableBits, int entry)
+  {
+    int first = offset + (code << (tableBits - length));
+    int count = 1 << (tableBits - length);
+
+    for (int i = 0; i < count; i++)
+    {
+      table[first + i] = entry;
+    }
+  }
+
+  /**
+   * reads exactly one code from the stream
+   *
+   * @param in positioned at the start of a code
+   * @return the decoded symbol
+   */
+  public int decode(BitInputStream in) throws IOException
+  {
+    int entry = primary[in.peekBits(primaryBits)];
+
+    if (entry < 0)
+    {
+      in.skipBits(primaryBits);
+      entry = secondary[((entry >>> 5) & 0x3FFFFFF) + in.peekBits(entry & 0x1F)];
+    }
+
+    if (entry == 0) throw new IOException("Invalid Huffman code");
+
+    in.skipBits(entry & 0xFF);
+    return entry >>> 8;
+  }
+}
@@ -0,0 +1,208 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Reusable context that encodes HuffmanBlock blocks into an internal byte buffer
+ * <p>
+ * the codes of the current block live in an int code[] and byte length[] table
+ * and the bits go through a 64-bit accumulator straight into the buffer,
+ * the buffer is sized for the worst case before the symbol loop so nothing is allocated per symbol
+ * the tables and the buffer are kept between blocks, so a long lived encoder stops allocating once warm
+ * <p>
+ * an encoder is not thread safe, either hand one to every caller or use threadLocal()
+ */
+public class HuffmanEncoder
+{
+  private static final ThreadLocal<HuffmanEncoder> LOCAL = ThreadLocal.withInitial(HuffmanEncoder::new);
+
+  private final int[] frequencies = new int[HuffmanBlock.ALPHABET_SIZE];
+  private final int[] codes = new int[HuffmanBlock.ALPHABET_SIZE];
+  private final byte[] lengths = new byte[HuffmanBlock.ALPHABET_SIZE];
+
+  private byte[] buffer = new byte[1 << 12];
+  private int position;
+
+  //  pending bits live in the low bitCount bits of the accumulator
+  private long accumulator;
+  private int bitCount;
+
+  /**
+   * @return the encoder of the calling thread, reset it before use
+   */
+  public static HuffmanEncoder threadLocal()
+  {
+    return LOCAL.get();
+  }
+
+  /**
+   * appends one block to the buffer
+   *
+   * @param length number of bytes to encode, at least 1
+   */
+  public void encodeBlock(byte[] data, int offset, int length)
+  {
+    Arrays.fill(frequencies, 0);
+    for (int i = offset; i < offset + length; i++)
+    {
+      frequencies[data[i] & 0xFF]++;
+    }
+
+//    the tree only decides the lengths, the codes are canonical so the decoder can use lookup tables
+    int[] blockLengths = CanonicalHuffman.optimalCodeLengths(frequencies, HuffmanBlock.MAX_CODE_LENGTH);
+    int[] blockCodes = CanonicalHuffman.codes(blockLengths);
+    for (int symbol = 0; symbol < HuffmanBlock.ALPHABET_SIZE; symbol++)
+    {
+      codes[symbol] = blockCodes[symbol];
+      lengths[symbol] = (byte) blockLengths[symbol];
+    }
+
+//    header plus every symbol at the longest code length
+    ensureCapacity(16 + HuffmanBlock.ALPHABET_SIZE + (int) (((long) length * HuffmanBlock.MAX_CODE_LENGTH + 7) / 8));
+
+    writeVarInt(length);
+    writeLengths(blockLengths);
+
+    long acc = accumulator;
+    int bits = bitCount;
+    byte[] buf = buffer;
+    int pos = position;
+
+//    the accumulator holds less than 32 bits between symbols, so 15 more always fit
+    for (int i = offset; i < offset + length; i++)
+    {
+      int symbol = data[i] & 0xFF;
+      acc = (acc << lengths[symbol]) | codes[symbol];
+      bits += lengths[symbol];
+
+      if (bits >= 32)
+      {
+        bits -= 32;
+        int word = (int) (acc >>> bits);
+        buf[pos] = (byte) (word >>> 24);
+        buf[pos + 1] = (byte) (word >>> 16);
+        buf[pos + 2] = (byte) (word >>> 8);
+        buf[pos + 3] = (byte) word;
+        pos += 4;
+      }
+    }
+
+    accumulator = acc;
+    bitCount = bits;
+    position = pos;
+
+    alignToByte();
+  }
+
+  /**
+   * @return number of encoded bytes in the buffer
+   */
+  public int size()
+  {
+    return position;
+  }
+
+  public byte[] toByteArray()
+  {
+    return Arrays.copyOf(buffer, position);
+  }
+
+  public void writeTo(OutputStream out) throws IOException
+  {
+    out.write(buffer, 0, position);
+  }
+
+  /**
+   * empties the buffer but keeps its memory for the next blocks
+   */
+  public void reset()
+  {
+    position = 0;
+    bitCount = 0;
+    accumulator = 0;
+  }
+
+  private void writeLengths(int[] blockLengths)
+  {
+    int distinct = 0;
+    for (int length : blockLengths)
+    {
+      if (length > 0) distinct++;
+    }
+
+//    12 bits per used symbol against 4 bits for every symbol
+    boolean dense = distinct * 12 > HuffmanBlock.ALPHABET_SIZE * 4;
+    writeBits(dense ? 1 : 0, 1);
+
+    if (dense)
+    {
+      for (int length : blockLengths)
+      {
+        writeBits(length, 4);
+      }
+      return;
+    }
+
+    writeBits(distinct - 1, 8);
+    for (int symbol = 0; symbol < HuffmanBlock.ALPHABET_SIZE; symbol++)
+    {
+      if (blockLengths[symbol] > 0)
+      {
+        writeBits(symbol, 8);
+        writeBits(blockLengths[symbol], 4);
+      }
+    }
+  }
+
+  private void writeVarInt(long value)
+  {
+    while ((value & ~0x7FL) != 0)
+    {
+      writeBits((int) ((value & 0x7F) | 0x80), 8);
+      value >>>= 7;
+    }
+    writeBits((int) value, 8);
+  }
+
+  /**
+   * slow path for the header, the caller made room in the buffer
+   */
+  private void writeBits(int value, int length)
+  {
+    accumulator = (accumulator << length) | (value & ((1 << length) - 1));
+    bitCount += length;
+
+    while (bitCount >= 8)
+    {
+      bitCount -= 8;
+      buffer[position++] = (byte) (accumulator >>> bitCount);
+    }
+  }
+
+  private void alignToByte()
+  {
+    while (bitCount >= 8)
+    {
+      bitCount -= 8;
+      buffer[position++] = (byte) (accumulator >>> bitCount);
+    }
+
+    if (bitCount > 0)
+    {
+      buffer[position++] = (byte) (accumulator << (8 - bitCount));
+      bitCount = 0;
+    }
+  }
+
+  private void ensureCapacity(int extra)
+  {
+    if (buffer.length - position >= extra) return;
+
+    long wanted = Math.max((long) buffer.length * 2, (long) position + extra);
+    if (wanted > Integer.MAX_VALUE - 8) throw new OutOfMemoryError("Encoded block too large");
+
+    buffer = Arrays.copyOf(buffer, (int) wanted);
+  }
+}
@@ -0,0 +1,86 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decompresses the blocks written by HuffmanOutputStream
+ * only one decoded block is held in memory at a time
+ * the code lengths in the block header go straight into a HuffmanDecodeTable,
+ * no tree is rebuilt and codes are resolved with table lookups rather than one tree node per bit
+ */
+public class HuffmanInputStream extends InputStream
+{
+  private final BitInputStream in;
+  private byte[] block = new byte[0];
+  private int position;
+  private int limit;
+  private boolean finished;
+
+  public HuffmanInputStream(InputStream in)
+  {
+    this.in = new BitInputStream(in);
+  }
+
+  @Override
+  public int read() throws IOException
+  {
+    if (position == limit && !nextBlock()) return -1;
+
+    return block[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException
+  {
+    if (length == 0) return 0;
+    if (position == limit && !nextBlock()) return -1;
+
+    int chunk = Math.min(length, limit - position);
+    System.arraycopy(block, position, bytes, offset, chunk);
+    position += chunk;
+
+    return chunk;
+  }
+
+  @Override
+  public int available()
+  {
+    return limit - position;
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    in.close();
+  }
+
+  /**
+   * decodes the next block into the buffer
+   *
+   * @return false once the end of stream marker is reached
+   */
+  private boolean nextBlock() throws IOException
+  {
+    if (finished) return false;
+
+    long count = in.readVarInt();
+    if (count == 0)
+    {
+      finished = true;
+      return false;
+    }
+    if (count > HuffmanOutputStream.MAX_BLOCK_SIZE) throw new IOException("Corrupt block size " + count);
+
+    if (block.length < count) block = new byte[(int) count];
+
+    HuffmanBlock.decode(in, (int) count, block, 0);
+
+    position = 0;
+    limit = (int) count;
+
+    return true;
+  }
+}
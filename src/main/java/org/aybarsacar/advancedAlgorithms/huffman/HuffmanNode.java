@@ -2,18 +2,31 @@ package org.aybarsacar.advancedAlgorithms.huffman;
 
 /**
  * This Node is used to compose the Huffman Tree
+ * c is the symbol of a leaf: a byte, a char or a code point
+ * leaves are the nodes without children, the '-' internal nodes carry is only a label
+ * so '-' is a symbol like any other
  */
 public class HuffmanNode
 {
-  char c;
+  int c;
   int frequency;
 
   HuffmanNode left = null;
   HuffmanNode right = null;
 
-  public HuffmanNode(char c, int frequency)
+  public HuffmanNode(int c, int frequency)
   {
     this.c = c;
     this.frequency = frequency;
   }
+
+  /**
+   * creates the internal node joining two subtrees
+   */
+  public HuffmanNode(HuffmanNode left, HuffmanNode right)
+  {
+    this('-', left.frequency + right.frequency);
+    this.left = left;
+    this.right = right;
+  }
 }
@@ -0,0 +1,105 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Compresses a byte stream with Huffman codes into packed bits
+ * the input is cut into blocks, every block gets its own code
+ * so the memory used stays at one block no matter how long the stream is
+ * <p>
+ * the stream is a sequence of HuffmanBlock blocks,
+ * a symbol count of 0 in place of the next block marks the end of the stream
+ */
+public class HuffmanOutputStream extends OutputStream
+{
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+  //  the largest block a decoder agrees to allocate
+  public static final int MAX_BLOCK_SIZE = 1 << 24;
+
+  private final OutputStream out;
+  private final HuffmanEncoder encoder = new HuffmanEncoder();
+  private final byte[] block;
+  private int size;
+  private boolean closed;
+
+  public HuffmanOutputStream(OutputStream out)
+  {
+    this(out, DEFAULT_BLOCK_SIZE);
+  }
+
+  public HuffmanOutputStream(OutputStream out, int blockSize)
+  {
+    if (blockSize <= 0 || blockSize > MAX_BLOCK_SIZE)
+    {
+      throw new IllegalArgumentException("blockSize has to be in the range [1, " + MAX_BLOCK_SIZE + "]");
+    }
+
+    this.out = out;
+    this.block = new byte[blockSize];
+  }
+
+  @Override
+  public void write(int b) throws IOException
+  {
+    if (closed) throw new IOException("Stream closed");
+
+    block[size++] = (byte) b;
+    if (size == block.length) encodeBlock();
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException
+  {
+    if (closed) throw new IOException("Stream closed");
+
+    while (length > 0)
+    {
+      int chunk = Math.min(length, block.length - size);
+      System.arraycopy(bytes, offset, block, size, chunk);
+
+      size += chunk;
+      offset += chunk;
+      length -= chunk;
+
+      if (size == block.length) encodeBlock();
+    }
+  }
+
+  /**
+   * ends the current block early so everything written so far can be decoded
+   */
+  @Override
+  public void flush() throws IOException
+  {
+    if (closed) return;
+
+    if (size > 0) encodeBlock();
+    out.flush();
+  }
+
+  /**
+   * encodes the last block and writes the end of stream marker
+   */
+  @Override
+  public void close() throws IOException
+  {
+    if (closed) return;
+
+    if (size > 0) encodeBlock();
+//    blocks end on a byte boundary, so the varint 0 is a single zero byte
+    out.write(0);
+    out.close();
+
+    closed = true;
+  }
+
+  private void encodeBlock() throws IOException
+  {
+    encoder.reset();
+    encoder.encodeBlock(block, 0, size);
+    encoder.writeTo(out);
+    size = 0;
+  }
+}
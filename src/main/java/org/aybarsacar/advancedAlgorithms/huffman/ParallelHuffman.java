@@ -0,0 +1,261 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Block parallel Huffman compression
+ * the input is split into fixed size blocks that are coded independently with HuffmanBlock,
+ * so both compression and decompression spread the blocks over a ForkJoinPool
+ * <p>
+ * the container records where every block starts, any block can be decoded on its own:
+ * int magic | int block size | long original length | int block count | long offset * (block count + 1) | blocks
+ * offsets count from the start of the container, the last one is the end of the last block
+ */
+public class ParallelHuffman
+{
+  public static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+  private static final int MAGIC = 0x48554642; // HUFB
+  private static final int HEADER_SIZE = 4 + 4 + 8 + 4;
+
+  private final ForkJoinPool pool;
+  private final int blockSize;
+
+  public ParallelHuffman()
+  {
+    this(ForkJoinPool.commonPool(), DEFAULT_BLOCK_SIZE);
+  }
+
+  public ParallelHuffman(ForkJoinPool pool, int blockSize)
+  {
+    if (blockSize <= 0 || blockSize > HuffmanOutputStream.MAX_BLOCK_SIZE)
+    {
+      throw new IllegalArgumentException("blockSize has to be in the range [1, "
+          + HuffmanOutputStream.MAX_BLOCK_SIZE + "]");
+    }
+
+    this.pool = pool;
+    this.blockSize = blockSize;
+  }
+
+  public byte[] compress(byte[] data)
+  {
+    int blockCount = (int) ((data.length + (long) blockSize - 1) / blockSize);
+    byte[][] blocks = new byte[blockCount][];
+
+    pool.invoke(new EncodeTask(data, blocks, blockSize, 0, blockCount));
+
+    long size = HEADER_SIZE + 8L * (blockCount + 1);
+    for (byte[] block : blocks)
+    {
+      size += block.length;
+    }
+    if (size > Integer.MAX_VALUE) throw new IllegalArgumentException("The compressed data does not fit in an array");
+
+    ByteBuffer container = ByteBuffer.allocate((int) size);
+    container.putInt(MAGIC).putInt(blockSize).putLong(data.length).putInt(blockCount);
+
+    long offset = HEADER_SIZE + 8L * (blockCount + 1);
+    for (byte[] block : blocks)
+    {
+      container.putLong(offset);
+      offset += block.length;
+    }
+    container.putLong(offset);
+
+    for (byte[] block : blocks)
+    {
+      container.put(block);
+    }
+
+    return container.array();
+  }
+
+  public byte[] decompress(byte[] container)
+  {
+    Header header = new Header(container);
+    if (header.originalLength > Integer.MAX_VALUE) throw new IllegalArgumentException("Too large for an array");
+
+    byte[] data = new byte[(int) header.originalLength];
+    pool.invoke(new DecodeTask(container, header, data, 0, header.blockCount));
+
+    return data;
+  }
+
+  /**
+   * decodes a single block without touching the others
+   *
+   * @param container produced by compress
+   * @param block     index of the block, see blockCount
+   * @return the bytes of that block
+   */
+  public static byte[] decompressBlock(byte[] container, int block)
+  {
+    Header header = new Header(container);
+    if (block < 0 || block >= header.blockCount) throw new IndexOutOfBoundsException("No block " + block);
+
+    byte[] data = new byte[header.blockLength(block)];
+    decodeBlock(container, header, block, data, 0);
+
+    return data;
+  }
+
+  public static int blockCount(byte[] container)
+  {
+    return new Header(container).blockCount;
+  }
+
+  private static void decodeBlock(byte[] container, Header header, int block, byte[] target, int offset)
+  {
+    int start = (int) header.offsets[block];
+    int end = (int) header.offsets[block + 1];
+
+    try
+    {
+      BitInputStream in = new BitInputStream(new ByteArrayInputStream(container, start, end - start));
+
+      long count = in.readVarInt();
+      if (count != header.blockLength(block)) throw new IOException("Corrupt block " + block);
+
+      HuffmanBlock.decode(in, (int) count, target, offset);
+    } catch (IOException e)
+    {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * the fixed part of the container plus the offset table
+   */
+  private static class Header
+  {
+    final int blockSize;
+    final long originalLength;
+    final int blockCount;
+    final long[] offsets;
+
+    Header(byte[] container)
+    {
+      ByteBuffer buffer = ByteBuffer.wrap(container);
+
+      if (container.length < HEADER_SIZE || buffer.getInt() != MAGIC)
+      {
+        throw new IllegalArgumentException("Not a block Huffman container");
+      }
+
+      blockSize = buffer.getInt();
+      originalLength = buffer.getLong();
+      blockCount = buffer.getInt();
+
+//      exactly as many blocks as the length needs
+      long expectedBlocks = originalLength < 0 || blockSize <= 0 ? -1 : (originalLength + blockSize - 1) / blockSize;
+
+      if (expectedBlocks != blockCount || HEADER_SIZE + 8L * (blockCount + 1) > container.length)
+      {
+        throw new IllegalArgumentException("Corrupt block Huffman container");
+      }
+
+      offsets = new long[blockCount + 1];
+      for (int i = 0; i <= blockCount; i++)
+      {
+        offsets[i] = buffer.getLong();
+
+        if (offsets[i] > container.length || (i > 0 && offsets[i] < offsets[i - 1]))
+        {
+          throw new IllegalArgumentException("Corrupt block Huffman container");
+        }
+      }
+    }
+
+    int blockLength(int block)
+    {
+      return (int) Math.min(blockSize, originalLength - (long) block * blockSize);
+    }
+  }
+
+  /**
+   * splits the range of blocks in half until a single block is left
+   */
+  private static class EncodeTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] data;
+    private final byte[][] blocks;
+    private final int blockSize;
+    private final int from, to;
+
+    EncodeTask(byte[] data, byte[][] blocks, int blockSize, int from, int to)
+    {
+      this.data = data;
+      this.blocks = blocks;
+      this.blockSize = blockSize;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (to - from > 1)
+      {
+        int middle = (from + to) >>> 1;
+        invokeAll(new EncodeTask(data, blocks, blockSize, from, middle), new EncodeTask(data, blocks, blockSize, middle, to));
+        return;
+      }
+      if (to == from) return;
+
+      int offset = from * blockSize;
+      int length = Math.min(blockSize, data.length - offset);
+
+//      workers keep their encoder between blocks, only the finished block is copied out
+      HuffmanEncoder encoder = HuffmanEncoder.threadLocal();
+      encoder.reset();
+      encoder.encodeBlock(data, offset, length);
+
+      blocks[from] = encoder.toByteArray();
+    }
+  }
+
+  private static class DecodeTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] container;
+    private final Header header;
+    private final byte[] data;
+    private final int from, to;
+
+    DecodeTask(byte[] container, Header header, byte[] data, int from, int to)
+    {
+      this.container = container;
+      this.header = header;
+      this.data = data;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (to - from > 1)
+      {
+        int middle = (from + to) >>> 1;
+        invokeAll(new DecodeTask(container, header, data, from, middle),
+            new DecodeTask(container, header, data, middle, to));
+        return;
+      }
+      if (to == from) return;
+
+//      blocks are full sized except the last one so every block knows where it lands
+      decodeBlock(container, header, from, data, from * header.blockSize);
+    }
+  }
+}
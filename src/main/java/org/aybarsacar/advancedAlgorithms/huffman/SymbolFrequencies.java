@@ -0,0 +1,115 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.IntIntHashMap;
+
+import java.util.Arrays;
+
+/**
+ * Counts how often every symbol occurs for alphabets of any size
+ * a symbol is a byte, a UTF-16 char or a Unicode code point, any int from 0 up
+ * <p>
+ * the first 256 symbols are counted in a plain array, which is all ASCII and binary data needs,
+ * larger symbols go to a primitive hash map so a text with a few thousand distinct code points
+ * does not pay for the whole 1.1 million code point range
+ */
+public class SymbolFrequencies
+{
+  private static final int DENSE_LIMIT = 256;
+
+  private final int[] dense = new int[DENSE_LIMIT];
+  private final IntIntHashMap sparse = new IntIntHashMap();
+  private int distinct;
+
+  public void add(int symbol)
+  {
+    add(symbol, 1);
+  }
+
+  public void add(int symbol, int count)
+  {
+    if (symbol < 0) throw new IllegalArgumentException("Symbols can not be negative: " + symbol);
+    if (count <= 0) return;
+
+    if (symbol < DENSE_LIMIT)
+    {
+      if (dense[symbol] == 0) distinct++;
+      dense[symbol] += count;
+    }
+    else if (sparse.add(symbol, count) == count)
+    {
+      distinct++;
+    }
+  }
+
+  public void addBytes(byte[] data)
+  {
+    for (byte b : data)
+    {
+      dense[b & 0xFF]++;
+    }
+    recountDense();
+  }
+
+  public void addChars(char[] text)
+  {
+    for (char c : text)
+    {
+      add(c);
+    }
+  }
+
+  public void addCodePoints(CharSequence text)
+  {
+    for (int i = 0; i < text.length(); )
+    {
+      int codePoint = Character.codePointAt(text, i);
+      add(codePoint);
+      i += Character.charCount(codePoint);
+    }
+  }
+
+  public int get(int symbol)
+  {
+    if (symbol < 0) return 0;
+    if (symbol < DENSE_LIMIT) return dense[symbol];
+    return sparse.get(symbol, 0);
+  }
+
+  /**
+   * @return number of distinct symbols seen
+   */
+  public int size()
+  {
+    return distinct;
+  }
+
+  /**
+   * @return the distinct symbols in increasing order
+   */
+  public int[] symbols()
+  {
+    int[] symbols = new int[distinct];
+    int i = 0;
+
+    for (int symbol = 0; symbol < DENSE_LIMIT; symbol++)
+    {
+      if (dense[symbol] > 0) symbols[i++] = symbol;
+    }
+
+    int[] large = sparse.keys();
+    Arrays.sort(large);
+    System.arraycopy(large, 0, symbols, i, large.length);
+
+    return symbols;
+  }
+
+  private void recountDense()
+  {
+    int count = sparse.size();
+    for (int frequency : dense)
+    {
+      if (frequency > 0) count++;
+    }
+    distinct = count;
+  }
+}
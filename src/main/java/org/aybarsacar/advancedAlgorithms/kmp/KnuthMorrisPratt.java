@@ -2,6 +2,12 @@ package org.aybarsacar.advancedAlgorithms.kmp;
 
 public class KnuthMorrisPratt
 {
+  //  the automaton has a column for every byte, or every char below 256
+  public static final int ALPHABET_SIZE = 256;
+
+  //  bytes the automaton of a compiled pattern may take, 256 KB fits patterns of up to 255 chars
+  public static final long DEFAULT_AUTOMATON_BUDGET = 1L << 18;
+
   /**
    * The KMP Searching algorithm method
    * Returns the index for the first match of the pattern in the array
@@ -49,6 +55,65 @@ public class KnuthMorrisPratt
     return -1;
   }
 
+  /**
+   * computes the Longest Suffix Prefix Table once for searching many texts
+   *
+   * @param pattern at least one char
+   * @return an immutable pattern that can search any number of texts from any thread
+   */
+  public static KnuthMorrisPrattPattern compile(char[] pattern)
+  {
+    return compile(pattern, DEFAULT_AUTOMATON_BUDGET);
+  }
+
+  /**
+   * the pattern runs on an automaton when all its chars are below 256 and the table fits the budget,
+   * otherwise on the Longest Suffix Prefix table
+   *
+   * @param automatonBudget bytes the automaton may take, 0 to never use one
+   */
+  public static KnuthMorrisPrattPattern compile(char[] pattern, long automatonBudget)
+  {
+    return new KnuthMorrisPrattPattern(pattern, automatonBudget);
+  }
+
+  /**
+   * @param pattern at least one byte
+   * @return an immutable matcher for ByteBuffers and memory mapped files
+   */
+  public static KnuthMorrisPrattBytePattern compile(byte[] pattern)
+  {
+    return compile(pattern, DEFAULT_AUTOMATON_BUDGET);
+  }
+
+  /**
+   * @param automatonBudget bytes the automaton may take, 0 to never use one
+   */
+  public static KnuthMorrisPrattBytePattern compile(byte[] pattern, long automatonBudget)
+  {
+    return new KnuthMorrisPrattBytePattern(pattern, automatonBudget);
+  }
+
+  /**
+   * @return bytes the automaton of a pattern of this length takes
+   */
+  public static long automatonSize(int patternLength)
+  {
+    return (patternLength + 1L) * ALPHABET_SIZE * Integer.BYTES;
+  }
+
+  /**
+   * @return true if every char of the pattern has a column in the automaton
+   */
+  public static boolean fitsAlphabet(char[] pattern)
+  {
+    for (char c : pattern)
+    {
+      if (c >= ALPHABET_SIZE) return false;
+    }
+    return true;
+  }
+
   /**
    * This computes the Longest Suffix Prefix Table for the pattern we are searching for
    * used by the KMP Algorithm
@@ -81,4 +146,38 @@ public class KnuthMorrisPratt
 
     return lsp;
   }
+
+  /**
+   * The KMP automaton, every fallback of the LSP table is followed once up front
+   * so a search does exactly one table lookup per char and never loops back
+   * <p>
+   * row j is the state where j chars of the pattern are matched, row m the state right after a match,
+   * automaton[j * ALPHABET_SIZE + c] is the state after reading c
+   * a char of 256 or more is in no pattern and leads back to state 0 from everywhere
+   *
+   * @param pattern only chars below 256
+   * @return the (m + 1) x 256 transition table
+   */
+  public int[] computeAutomaton(char[] pattern)
+  {
+    if (!fitsAlphabet(pattern)) throw new IllegalArgumentException("The automaton only takes chars below " + ALPHABET_SIZE);
+
+    int m = pattern.length;
+    int[] lsp = computeLSPTable(pattern);
+    int[] automaton = new int[(m + 1) * ALPHABET_SIZE];
+
+    for (int j = 0; j <= m; j++)
+    {
+//      the state we would fall back to, its row is already complete
+      int fallback = j == 0 ? -1 : lsp[j - 1];
+
+      for (int c = 0; c < ALPHABET_SIZE; c++)
+      {
+        if (j < m && pattern[j] == c) automaton[j * ALPHABET_SIZE + c] = j + 1;
+        else if (fallback >= 0) automaton[j * ALPHABET_SIZE + c] = automaton[fallback * ALPHABET_SIZE + c];
+      }
+    }
+
+    return automaton;
+  }
 }
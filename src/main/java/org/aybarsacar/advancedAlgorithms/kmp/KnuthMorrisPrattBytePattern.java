@@ -0,0 +1,93 @@
+package org.aybarsacar.advancedAlgorithms.kmp;
+
+import org.aybarsacar.advancedAlgorithms.matcher.ByteMatcher;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
+
+/**
+ * The KMP search over bytes, the same Longest Suffix Prefix table as KnuthMorrisPrattPattern
+ * reads every byte of the text exactly once, in order, which suits memory mapped files
+ * <p>
+ * every byte has a column in the automaton, so it is used whenever it fits the budget
+ */
+public final class KnuthMorrisPrattBytePattern implements ByteMatcher
+{
+  private final byte[] pattern;
+  private final int[] lsp;
+
+  //  null when the pattern runs on the table
+  private final int[] automaton;
+
+  KnuthMorrisPrattBytePattern(byte[] pattern, long automatonBudget)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+
+    KnuthMorrisPratt kmp = new KnuthMorrisPratt();
+    char[] chars = ByteMatcher.unsigned(this.pattern);
+    this.lsp = kmp.computeLSPTable(chars);
+    this.automaton = KnuthMorrisPratt.automatonSize(chars.length) <= automatonBudget ? kmp.computeAutomaton(chars) : null;
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  /**
+   * @return true if the search runs on the automaton
+   */
+  public boolean usesAutomaton()
+  {
+    return automaton != null;
+  }
+
+  @Override
+  public int find(ByteBuffer text, int from)
+  {
+    if (text == null) return -1;
+
+    int j = 0;
+    for (int i = Math.max(from, 0); i < text.limit(); i++)
+    {
+      j = step(j, text.get(i));
+
+      if (j == pattern.length) return i - (j - 1);
+    }
+
+    return -1;
+  }
+
+  @Override
+  public void findAll(ByteBuffer text, IntConsumer listener)
+  {
+    if (text == null) return;
+
+    int j = 0;
+    for (int i = 0; i < text.limit(); i++)
+    {
+      j = step(j, text.get(i));
+
+      if (j == pattern.length)
+      {
+        listener.accept(i - (j - 1));
+        if (automaton == null) j = lsp[j - 1];
+      }
+    }
+  }
+
+  private int step(int j, byte b)
+  {
+    if (automaton != null) return automaton[j * KnuthMorrisPratt.ALPHABET_SIZE + (b & 0xFF)];
+
+    while (j > 0 && b != pattern[j])
+    {
+      j = lsp[j - 1];
+    }
+
+    return b == pattern[j] ? j + 1 : j;
+  }
+}
@@ -0,0 +1,138 @@
+package org.aybarsacar.advancedAlgorithms.kmp;
+
+import org.aybarsacar.advancedAlgorithms.matcher.MatchStream;
+import org.aybarsacar.advancedAlgorithms.matcher.Matcher;
+
+import java.nio.CharBuffer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * A pattern compiled once for the KMP search, holds the Longest Suffix Prefix table
+ * <p>
+ * KMP never looks back at the text, the only state between two chars is how much of the pattern
+ * is matched, so findAll needs a single pass and a stream carries one int across chunks
+ * <p>
+ * when the pattern fits the automaton budget the state moves by one lookup per char in the automaton,
+ * see KnuthMorrisPratt.computeAutomaton, otherwise by the fallback loop over the table
+ */
+public final class KnuthMorrisPrattPattern implements Matcher
+{
+  private final char[] pattern;
+  private final int[] lsp;
+
+  //  null when the pattern runs on the table
+  private final int[] automaton;
+
+  KnuthMorrisPrattPattern(char[] pattern, long automatonBudget)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+
+    KnuthMorrisPratt kmp = new KnuthMorrisPratt();
+    this.lsp = kmp.computeLSPTable(this.pattern);
+
+    boolean fits = KnuthMorrisPratt.fitsAlphabet(this.pattern)
+        && KnuthMorrisPratt.automatonSize(this.pattern.length) <= automatonBudget;
+    this.automaton = fits ? kmp.computeAutomaton(this.pattern) : null;
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  /**
+   * @return true if the search runs on the automaton
+   */
+  public boolean usesAutomaton()
+  {
+    return automaton != null;
+  }
+
+  @Override
+  public int find(char[] text, int from, int to)
+  {
+    if (text == null) return -1;
+
+    int j = 0;
+    int end = Math.min(to, text.length);
+    for (int i = Math.max(from, 0); i < end; i++)
+    {
+      j = step(j, text[i]);
+
+      if (j == pattern.length) return i - (j - 1);
+    }
+
+    return -1;
+  }
+
+  @Override
+  public void findAll(char[] text, IntConsumer listener)
+  {
+    if (text == null) return;
+
+    int j = 0;
+    for (int i = 0; i < text.length; i++)
+    {
+      j = step(j, text[i]);
+
+      if (j == pattern.length)
+      {
+        listener.accept(i - (j - 1));
+//        keep the longest border so overlapping matches are found too, row m of the automaton already does
+        if (automaton == null) j = lsp[j - 1];
+      }
+    }
+  }
+
+  @Override
+  public MatchStream stream(LongConsumer listener)
+  {
+    return new MatchStream()
+    {
+      private int j;
+      private long position;
+
+      @Override
+      public void feed(CharBuffer chunk)
+      {
+        while (chunk.hasRemaining())
+        {
+          j = step(j, chunk.get());
+          position++;
+
+          if (j == pattern.length)
+          {
+            listener.accept(position - j);
+            if (automaton == null) j = lsp[j - 1];
+          }
+        }
+      }
+
+      @Override
+      public long position()
+      {
+        return position;
+      }
+    };
+  }
+
+  /**
+   * @param j number of pattern chars matched before c, less than the pattern length unless on the automaton
+   * @return number of pattern chars matched after c
+   */
+  private int step(int j, char c)
+  {
+    if (automaton != null) return c < KnuthMorrisPratt.ALPHABET_SIZE ? automaton[j * KnuthMorrisPratt.ALPHABET_SIZE + c] : 0;
+
+    while (j > 0 && c != pattern[j])
+    {
+      j = lsp[j - 1];
+    }
+
+    return c == pattern[j] ? j + 1 : j;
+  }
+}
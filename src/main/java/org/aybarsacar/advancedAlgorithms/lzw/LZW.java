@@ -1,45 +1,60 @@
 package org.aybarsacar.advancedAlgorithms.lzw;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * LZW over the chars 0 to 255 with the codes kept in a list
+ * <p>
+ * compress keeps the dictionary as (prefix code, char) -> code in an LZWDictionary,
+ * decompress keeps the prefix code, last char and length of every phrase in flat arrays
+ * and writes a phrase straight into the result by walking its prefixes backwards,
+ * so neither side builds a String per input char
+ * see LZWOutputStream for a bounded byte stream version
+ */
 public class LZW
 {
+  private static final int ALPHABET_SIZE = 256;
+
   public List<Integer> compress(String text)
   {
     if (text == null) return null;
 
-    int dictionarySize = 256;
+    int dictionarySize = ALPHABET_SIZE;
     List<Integer> result = new ArrayList<>();
 
-//    populate the dictionary with the chars from 1 to 255 from ASCII table
-    Map<String, Integer> dictionary = new HashMap<>();
-    for (int i = 0; i < dictionarySize; i++)
-    {
-      dictionary.put("" + (char) i, i);
-    }
+//    the chars from 0 to 255 are their own codes, only longer phrases go in the dictionary
+    LZWDictionary dictionary = new LZWDictionary();
 
-    String previous = "";
-    for (char c : text.toCharArray())
+//    code of the phrase matched so far, -1 for the empty phrase
+    int previous = -1;
+    for (int i = 0; i < text.length(); i++)
     {
-      String combined = previous + c;
+      char c = text.charAt(i);
+      if (c >= ALPHABET_SIZE) throw new IllegalArgumentException("Only chars below 256 can be compressed: " + c);
+
+      if (previous < 0)
+      {
+        previous = c;
+        continue;
+      }
 
-      if (dictionary.containsKey(combined))
+      int combined = dictionary.get(previous, c);
+      if (combined >= 0)
       {
         previous = combined;
       }
       else
       {
-        result.add(dictionary.get(previous));
-        dictionary.put(combined, dictionarySize++);
-        previous = "" + c;
+        result.add(previous);
+        dictionary.put(previous, c, dictionarySize++);
+        previous = c;
       }
     }
 
 //    the last item
-    if (!previous.equals("")) result.add(dictionary.get(previous));
+    if (previous >= 0) result.add(previous);
 
     return result;
   }
@@ -48,38 +63,76 @@ public class LZW
   {
     if (compressed == null || compressed.size() == 0) return null;
 
-    int dictionarySize = 256;
-    Map<Integer, String> dictionary = new HashMap<>();
+    int dictionarySize = ALPHABET_SIZE;
+
+//    phrase of code i = phrase of prefixes[i] followed by suffixes[i], lengths[i] chars long
+    int[] prefixes = new int[ALPHABET_SIZE * 2];
+    char[] suffixes = new char[ALPHABET_SIZE * 2];
+    int[] lengths = new int[ALPHABET_SIZE * 2];
 
     for (int i = 0; i < dictionarySize; i++)
     {
-      dictionary.put(i, "" + (char) i);
+      suffixes[i] = (char) i;
+      lengths[i] = 1;
     }
 
-//    get the first value and set it to previous string
-    String previous = "" + (char) (int) compressed.remove(0);
-    StringBuilder result = new StringBuilder(previous);
+    StringBuilder result = new StringBuilder(compressed.size() * 2);
+
+    int previous = -1;
     for (int j : compressed)
     {
-      String combined;
-      if (dictionary.containsKey(j))
+      int start = result.length();
+
+      if (j >= 0 && j < dictionarySize)
       {
-        combined = dictionary.get(j);
+        append(result, j, prefixes, suffixes, lengths);
       }
-      else if (j == dictionarySize)
+      else if (j == dictionarySize && previous >= 0)
       {
-        combined = previous + previous.charAt(0);
+//        the phrase being defined right now, the previous phrase plus its own first char
+        append(result, previous, prefixes, suffixes, lengths);
+        result.append(result.charAt(start));
       }
       else
       {
         return "-1"; // Throw an exception here
       }
 
-      result.append(combined);
-      dictionary.put(dictionarySize++, previous + combined);
-      previous = combined;
+      if (previous >= 0)
+      {
+        if (dictionarySize == prefixes.length)
+        {
+          prefixes = Arrays.copyOf(prefixes, dictionarySize * 2);
+          suffixes = Arrays.copyOf(suffixes, dictionarySize * 2);
+          lengths = Arrays.copyOf(lengths, dictionarySize * 2);
+        }
+
+        prefixes[dictionarySize] = previous;
+        suffixes[dictionarySize] = result.charAt(start);
+        lengths[dictionarySize] = lengths[previous] + 1;
+        dictionarySize++;
+      }
+
+      previous = j;
     }
 
     return result.toString();
   }
+
+  /**
+   * appends the phrase of a code, filled from its last char back to its first
+   */
+  private static void append(StringBuilder result, int code, int[] prefixes, char[] suffixes, int[] lengths)
+  {
+    int start = result.length();
+    int end = start + lengths[code];
+    result.setLength(end);
+
+    for (int i = end - 1; code >= ALPHABET_SIZE; i--)
+    {
+      result.setCharAt(i, suffixes[code]);
+      code = prefixes[code];
+    }
+    result.setCharAt(start, suffixes[code]);
+  }
 }
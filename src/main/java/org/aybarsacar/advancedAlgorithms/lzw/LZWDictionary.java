@@ -0,0 +1,122 @@
+package org.aybarsacar.advancedAlgorithms.lzw;
+
+import java.util.Arrays;
+
+/**
+ * The LZW compression dictionary as a (prefix code, next symbol) -> code table
+ * <p>
+ * a phrase is never stored, only the code of the phrase it extends and the symbol it adds,
+ * so looking up the next longer phrase is one probe with a long key instead of building and hashing a String
+ * both parts live in one long key and the table uses open addressing with linear probing,
+ * no entry is ever removed, clear empties the whole table for a dictionary reset
+ */
+public class LZWDictionary
+{
+  private static final long EMPTY = -1;
+
+  private long[] keys;
+  private int[] codes;
+  private int size;
+  private int mask;
+
+  public LZWDictionary()
+  {
+    this(1 << 12);
+  }
+
+  /**
+   * @param expectedSize number of phrases the table is sized for, it grows past it if needed
+   */
+  public LZWDictionary(int expectedSize)
+  {
+    int capacity = Integer.highestOneBit(Math.max(4, expectedSize * 2 - 1)) << 1;
+    allocate(capacity);
+  }
+
+  /**
+   * @param prefix code of the phrase matched so far
+   * @param symbol the next byte or char, at most 16 bits
+   * @return code of the extended phrase or -1 if it is not in the dictionary
+   */
+  public int get(int prefix, int symbol)
+  {
+    int slot = find(key(prefix, symbol));
+    return keys[slot] == EMPTY ? -1 : codes[slot];
+  }
+
+  public void put(int prefix, int symbol, int code)
+  {
+    long key = key(prefix, symbol);
+    int slot = find(key);
+
+    if (keys[slot] == EMPTY)
+    {
+      keys[slot] = key;
+      codes[slot] = code;
+      if (++size * 2 > keys.length) grow();
+      return;
+    }
+
+    codes[slot] = code;
+  }
+
+  public int size()
+  {
+    return size;
+  }
+
+  public void clear()
+  {
+    Arrays.fill(keys, EMPTY);
+    size = 0;
+  }
+
+  private static long key(int prefix, int symbol)
+  {
+    return (long) prefix << 16 | symbol;
+  }
+
+  private int find(long key)
+  {
+    int slot = mix(key) & mask;
+    while (keys[slot] != EMPTY && keys[slot] != key)
+    {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * consecutive prefix codes with the same symbol would otherwise land next to each other
+   */
+  private static int mix(long key)
+  {
+    long h = key * 0x9E3779B97F4A7C15L;
+    return (int) (h ^ (h >>> 32));
+  }
+
+  private void grow()
+  {
+    long[] oldKeys = keys;
+    int[] oldCodes = codes;
+
+    allocate(oldKeys.length * 2);
+
+    for (int i = 0; i < oldKeys.length; i++)
+    {
+      if (oldKeys[i] == EMPTY) continue;
+
+      int slot = find(oldKeys[i]);
+      keys[slot] = oldKeys[i];
+      codes[slot] = oldCodes[i];
+    }
+  }
+
+  private void allocate(int capacity)
+  {
+    keys = new long[capacity];
+    codes = new int[capacity];
+    mask = capacity - 1;
+    Arrays.fill(keys, EMPTY);
+  }
+}
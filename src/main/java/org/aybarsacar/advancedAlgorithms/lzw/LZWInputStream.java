@@ -0,0 +1,151 @@
+package org.aybarsacar.advancedAlgorithms.lzw;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Decompresses the stream written by LZWOutputStream
+ * <p>
+ * the dictionary is two flat arrays, the prefix code and the last byte of every phrase,
+ * a phrase is spelled by walking the prefixes backwards into a buffer,
+ * so no strings are built and memory is bounded by 2^maxBits entries
+ */
+public class LZWInputStream extends InputStream
+{
+  private final BitInputStream in;
+  private final int maxCodes;
+
+  private final int[] prefixes;
+  private final byte[] suffixes;
+  private int size = LZWOutputStream.FIRST_CODE;
+
+  //  the bytes of the last decoded phrase fill the buffer from the end
+  private final byte[] phrase;
+  private int position;
+
+  private int previous = -1;
+  private boolean finished;
+
+  public LZWInputStream(InputStream in) throws IOException
+  {
+    this.in = new BitInputStream(in);
+
+    int maxBits = this.in.read();
+    if (maxBits < LZWOutputStream.MIN_BITS || maxBits > LZWOutputStream.MAX_BITS)
+    {
+      throw new IOException("Not an LZW stream, invalid code width " + maxBits);
+    }
+
+    maxCodes = 1 << maxBits;
+    prefixes = new int[maxCodes];
+    suffixes = new byte[maxCodes];
+    phrase = new byte[maxCodes];
+    position = phrase.length;
+
+    for (int i = 0; i < 256; i++)
+    {
+      suffixes[i] = (byte) i;
+    }
+  }
+
+  @Override
+  public int read() throws IOException
+  {
+    if (position == phrase.length && !nextPhrase()) return -1;
+
+    return phrase[position++] & 0xFF;
+  }
+
+  @Override
+  public int read(byte[] bytes, int offset, int length) throws IOException
+  {
+    if (length == 0) return 0;
+    if (position == phrase.length && !nextPhrase()) return -1;
+
+    int chunk = Math.min(length, phrase.length - position);
+    System.arraycopy(phrase, position, bytes, offset, chunk);
+    position += chunk;
+
+    return chunk;
+  }
+
+  @Override
+  public void close() throws IOException
+  {
+    in.close();
+  }
+
+  /**
+   * reads codes until one of them is a phrase
+   *
+   * @return false once the EOF code is reached
+   */
+  private boolean nextPhrase() throws IOException
+  {
+    while (!finished)
+    {
+//      mirror of the writer, which already added the entry for the previous code
+      int expected = previous < 0 ? size : Math.min(size + 1, maxCodes);
+      int code = in.readBits(LZWOutputStream.width(expected));
+
+      if (code == LZWOutputStream.EOF)
+      {
+        finished = true;
+        return false;
+      }
+      if (code == LZWOutputStream.CLEAR)
+      {
+        size = LZWOutputStream.FIRST_CODE;
+        previous = -1;
+        continue;
+      }
+      if (code > size || (code == size && (previous < 0 || size == maxCodes)))
+      {
+        throw new IOException("Invalid LZW code " + code);
+      }
+
+      if (code == size)
+      {
+//        the phrase being defined right now: previous phrase + its own first byte
+        position = spell(previous, phrase.length - 1);
+        phrase[phrase.length - 1] = phrase[position];
+      }
+      else
+      {
+        position = spell(code, phrase.length);
+      }
+
+      if (previous >= 0 && size < maxCodes)
+      {
+        prefixes[size] = previous;
+        suffixes[size] = phrase[position];
+        size++;
+      }
+
+      previous = code;
+      return true;
+    }
+
+    return false;
+  }
+
+  /**
+   * writes the phrase of a code so it ends right before end
+   *
+   * @return index of its first byte
+   */
+  private int spell(int code, int end)
+  {
+    int i = end;
+    while (code >= LZWOutputStream.FIRST_CODE)
+    {
+      phrase[--i] = suffixes[code];
+      code = prefixes[code];
+    }
+    phrase[--i] = suffixes[code];
+
+    return i;
+  }
+}
@@ -0,0 +1,139 @@
+package org.aybarsacar.advancedAlgorithms.lzw;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * LZW over bytes with variable width codes packed into a byte stream
+ * <p>
+ * codes 0 to 255 are the single bytes, CLEAR and EOF are control codes and phrases start at FIRST_CODE
+ * a code is written with just enough bits for the largest code the reader can expect at that point,
+ * starting at 9 bits and growing up to maxBits
+ * once the dictionary holds 2^maxBits codes a CLEAR code is sent and both sides start over,
+ * so memory stays bounded by maxBits no matter how long the stream is
+ * <p>
+ * stream layout: 1 byte maxBits | codes | EOF, padded to a byte boundary
+ */
+public class LZWOutputStream extends OutputStream
+{
+  public static final int CLEAR = 256;
+  public static final int EOF = 257;
+  public static final int FIRST_CODE = 258;
+
+  public static final int MIN_BITS = 9;
+  public static final int MAX_BITS = 16;
+  public static final int DEFAULT_MAX_BITS = 16;
+
+  private final BitOutputStream out;
+  private final int maxCodes;
+
+  private final LZWDictionary dictionary;
+  private int size = FIRST_CODE;
+
+  //  code of the longest phrase matched so far, -1 before the first byte
+  private int prefix = -1;
+  private boolean closed;
+
+  public LZWOutputStream(OutputStream out) throws IOException
+  {
+    this(out, DEFAULT_MAX_BITS);
+  }
+
+  public LZWOutputStream(OutputStream out, int maxBits) throws IOException
+  {
+    if (maxBits < MIN_BITS || maxBits > MAX_BITS)
+    {
+      throw new IllegalArgumentException("maxBits has to be in the range [" + MIN_BITS + ", " + MAX_BITS + "]");
+    }
+
+    this.out = new BitOutputStream(out);
+    this.maxCodes = 1 << maxBits;
+    this.dictionary = new LZWDictionary(maxCodes);
+
+    this.out.writeBits(maxBits, 8);
+  }
+
+  @Override
+  public void write(int b) throws IOException
+  {
+    if (closed) throw new IOException("Stream closed");
+
+    encode(b & 0xFF);
+  }
+
+  @Override
+  public void write(byte[] bytes, int offset, int length) throws IOException
+  {
+    if (closed) throw new IOException("Stream closed");
+
+    for (int i = offset; i < offset + length; i++)
+    {
+      encode(bytes[i] & 0xFF);
+    }
+  }
+
+  /**
+   * writes the last phrase and the EOF code
+   */
+  @Override
+  public void close() throws IOException
+  {
+    if (closed) return;
+
+    if (prefix >= 0)
+    {
+      out.writeBits(prefix, width(size));
+//      the reader adds an entry after every code but the first, so it expects one more
+      out.writeBits(EOF, width(Math.min(size + 1, maxCodes)));
+    }
+    else
+    {
+      out.writeBits(EOF, width(size));
+    }
+    out.close();
+
+    closed = true;
+  }
+
+  private void encode(int b) throws IOException
+  {
+    if (prefix < 0)
+    {
+      prefix = b;
+      return;
+    }
+
+    int code = dictionary.get(prefix, b);
+    if (code >= 0)
+    {
+      prefix = code;
+      return;
+    }
+
+    out.writeBits(prefix, width(size));
+
+    if (size < maxCodes)
+    {
+      dictionary.put(prefix, b, size++);
+    }
+    else
+    {
+      out.writeBits(CLEAR, width(size));
+      dictionary.clear();
+      size = FIRST_CODE;
+    }
+
+    prefix = b;
+  }
+
+  /**
+   * @param size number of codes the reader can tell apart at this point
+   * @return bits needed for the largest of them
+   */
+  static int width(int size)
+  {
+    return Math.max(MIN_BITS, 32 - Integer.numberOfLeadingZeros(size - 1));
+  }
+}
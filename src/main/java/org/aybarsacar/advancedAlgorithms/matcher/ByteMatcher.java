@@ -0,0 +1,55 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntConsumer;
+
+/**
+ * A compiled byte pattern, the byte counterpart of Matcher
+ * <p>
+ * the text is a ByteBuffer read with absolute gets from index 0 up to its limit and its position is left alone,
+ * so heap buffers, direct buffers and MappedByteBuffers all work without copying into an array
+ * see MappedFileSearch to search files larger than one buffer
+ */
+public interface ByteMatcher
+{
+  /**
+   * @return number of bytes in the pattern
+   */
+  int length();
+
+  /**
+   * @param text to search in, null has no matches
+   * @param from first index a match may start at
+   * @return index of the first match at or after from, -1 if there is none
+   */
+  int find(ByteBuffer text, int from);
+
+  default int find(byte[] text, int from)
+  {
+    return text == null ? -1 : find(ByteBuffer.wrap(text), from);
+  }
+
+  /**
+   * reports the start of every match in increasing order, overlapping ones included
+   */
+  default void findAll(ByteBuffer text, IntConsumer listener)
+  {
+    for (int i = find(text, 0); i >= 0; i = find(text, i + 1))
+    {
+      listener.accept(i);
+    }
+  }
+
+  /**
+   * @return the bytes as the chars 0 to 255, so the tables of the char matchers can be built from a byte pattern
+   */
+  static char[] unsigned(byte[] pattern)
+  {
+    char[] chars = new char[pattern.length];
+    for (int i = 0; i < pattern.length; i++)
+    {
+      chars[i] = (char) (pattern[i] & 0xFF);
+    }
+    return chars;
+  }
+}
@@ -0,0 +1,51 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+/**
+ * A rough idea of how common a char or byte is in text and source code
+ * the prefilters look for the pattern char with the lowest score, since it gives the fewest candidates
+ */
+final class CharFrequencies
+{
+  //  most common first, everything not in here counts as rare
+  private static final String COMMON =
+      " etaoinsrhldcumfpgwybvkxjqz\nETAOINSRHLDCUMFPGWYBVKXJQZ.,0123456789\"'()-_;:=/\t\r{}[]<>*+!?#&$%@\\|^`~";
+
+  private static final int[] SCORES = new int[256];
+
+  static
+  {
+    for (int i = 0; i < COMMON.length(); i++)
+    {
+      SCORES[COMMON.charAt(i)] = COMMON.length() - i;
+    }
+  }
+
+  private CharFrequencies()
+  {
+  }
+
+  /**
+   * @param c a char or an unsigned byte
+   * @return higher for chars that show up more often, 0 for rare ones
+   */
+  static int score(int c)
+  {
+    return c < SCORES.length ? SCORES[c] : 0;
+  }
+
+  /**
+   * @param values chars or unsigned bytes of the pattern
+   * @param skip   index to leave out, -1 for none
+   * @return index of the rarest value, the first one on ties, -1 if there is none to choose
+   */
+  static int rarest(int[] values, int skip)
+  {
+    int best = -1;
+    for (int i = 0; i < values.length; i++)
+    {
+      if (i == skip) continue;
+      if (best < 0 || score(values[i]) < score(values[best])) best = i;
+    }
+    return best;
+  }
+}
@@ -0,0 +1,82 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.LongConsumer;
+
+/**
+ * Searches a file through memory mapped windows, so nothing is copied into the heap
+ * <p>
+ * a MappedByteBuffer is indexed by int, so a file larger than 2 GB is mapped one window at a time,
+ * every window reaches pattern length - 1 bytes into the next one so a match across the border is still found,
+ * a match is only reported by the window it starts in so none is reported twice
+ * <p>
+ * Java 8 can not unmap a buffer, a window is released when the garbage collector gets to it
+ */
+public final class MappedFileSearch
+{
+  //  1 GB per window leaves room for the overlap below Integer.MAX_VALUE
+  public static final int DEFAULT_WINDOW = 1 << 30;
+
+  private MappedFileSearch()
+  {
+  }
+
+  /**
+   * @return offset of the first match in the file, -1 if there is none
+   */
+  public static long find(Path file, ByteMatcher matcher) throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+    {
+      long[] first = {-1};
+      search(channel, matcher, DEFAULT_WINDOW, true, offset -> first[0] = offset);
+      return first[0];
+    }
+  }
+
+  /**
+   * reports the offset of every match in the file in increasing order
+   */
+  public static void findAll(Path file, ByteMatcher matcher, LongConsumer listener) throws IOException
+  {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+    {
+      findAll(channel, matcher, DEFAULT_WINDOW, listener);
+    }
+  }
+
+  /**
+   * @param channel read from offset 0 to its size, its position is not changed
+   * @param window  bytes a window starts matches for, the mapped buffer is pattern length - 1 bytes longer
+   */
+  public static void findAll(FileChannel channel, ByteMatcher matcher, int window, LongConsumer listener) throws IOException
+  {
+    search(channel, matcher, window, false, listener);
+  }
+
+  private static void search(FileChannel channel, ByteMatcher matcher, int window, boolean firstOnly,
+                             LongConsumer listener) throws IOException
+  {
+    int overlap = matcher.length() - 1;
+    if (window < 1 || window > Integer.MAX_VALUE - overlap) throw new IllegalArgumentException("Invalid window size: " + window);
+
+    long size = channel.size();
+
+    for (long start = 0; size - start >= matcher.length(); start += window)
+    {
+      int length = (int) Math.min((long) window + overlap, size - start);
+      MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+
+//      matches from window on belong to the next window
+      for (int i = matcher.find(buffer, 0); i >= 0 && i < window; i = matcher.find(buffer, i + 1))
+      {
+        listener.accept(start + i);
+        if (firstOnly) return;
+      }
+    }
+  }
+}
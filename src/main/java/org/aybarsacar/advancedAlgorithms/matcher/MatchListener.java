@@ -0,0 +1,14 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+/**
+ * Receives the matches of a multi pattern search such as AhoCorasick as they are found
+ */
+@FunctionalInterface
+public interface MatchListener
+{
+  /**
+   * @param id    id of the pattern that matched
+   * @param start index of the first char of the match in the text
+   */
+  void match(int id, int start);
+}
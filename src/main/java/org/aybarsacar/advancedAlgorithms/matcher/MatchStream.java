@@ -0,0 +1,20 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import java.nio.CharBuffer;
+
+/**
+ * Searches text handed over in chunks, a match may span any number of chunks
+ * the state carried between chunks is bounded by the pattern, never by the stream
+ */
+public interface MatchStream
+{
+  /**
+   * searches the remaining chars of the chunk and consumes them
+   */
+  void feed(CharBuffer chunk);
+
+  /**
+   * @return number of chars fed so far
+   */
+  long position();
+}
@@ -0,0 +1,86 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * A compiled pattern that any of the string searching algorithms can stand behind
+ * <p>
+ * find returns one match at a time, findAll reports every match including overlapping ones,
+ * stream searches text that arrives in chunks and reports matches by their offset in the whole stream
+ * <p>
+ * implementations are immutable, a MatchStream holds the state of one stream
+ */
+public interface Matcher
+{
+  /**
+   * @return number of chars in the pattern
+   */
+  int length();
+
+  /**
+   * @param text to search in, null has no matches
+   * @param from first index a match may start at
+   * @return index of the first match at or after from, -1 if there is none
+   */
+  default int find(char[] text, int from)
+  {
+    return text == null ? -1 : find(text, from, text.length);
+  }
+
+  /**
+   * the text is treated as if it ended at to, nothing from there on is read
+   *
+   * @param text to search in, null has no matches
+   * @param from first index a match may start at
+   * @param to   index a match has to end before, at most the length of the text
+   * @return index of the first match at or after from that ends before to, -1 if there is none
+   */
+  int find(char[] text, int from, int to);
+
+  default int find(char[] text)
+  {
+    return find(text, 0);
+  }
+
+  /**
+   * reports the start of every match in increasing order
+   */
+  default void findAll(char[] text, IntConsumer listener)
+  {
+    for (int i = find(text, 0); i >= 0; i = find(text, i + 1))
+    {
+      listener.accept(i);
+    }
+  }
+
+  default IntStream findAll(char[] text)
+  {
+    IntStream.Builder matches = IntStream.builder();
+    findAll(text, matches);
+    return matches.build();
+  }
+
+  /**
+   * starts searching a stream, the chunks go to MatchStream.feed
+   *
+   * @param listener receives the offset of every match from the start of the stream
+   */
+  default MatchStream stream(LongConsumer listener)
+  {
+    return new TailBufferMatchStream(this, listener);
+  }
+
+  /**
+   * puts a filter in front of the matcher that scans for the rarest char of the pattern,
+   * worth it when most of the text does not match
+   *
+   * @param pattern the pattern the matcher was compiled from
+   * @param matcher checks what the filter can not rule out cheaply
+   */
+  static Matcher withPrefilter(char[] pattern, Matcher matcher)
+  {
+    return new RareCharPrefilter(pattern, matcher);
+  }
+}
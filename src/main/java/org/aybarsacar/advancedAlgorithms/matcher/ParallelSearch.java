@@ -0,0 +1,160 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.IntStream;
+
+/**
+ * Runs any Matcher or ByteMatcher over one large text on a ForkJoinPool
+ * <p>
+ * the text is split into chunks of chunkSize, a chunk is searched together with the first
+ * pattern length - 1 chars of the next one, so a match across the border is found by the chunk it starts in
+ * and by no other, the chunk results come out sorted and without duplicates and are joined in chunk order
+ * <p>
+ * the matchers are immutable so the same one is shared by every worker
+ */
+public class ParallelSearch
+{
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 20;
+
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  public ParallelSearch()
+  {
+    this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  public ParallelSearch(ForkJoinPool pool, int chunkSize)
+  {
+    if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize has to be positive");
+
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @return the start of every match in increasing order, overlapping ones included
+   */
+  public int[] findAll(char[] text, Matcher matcher)
+  {
+    if (text == null) return new int[0];
+
+    int[][] chunks = new int[chunkCount(text.length)][];
+    pool.invoke(new SearchTask(chunks, 0, chunks.length, chunk -> searchChunk(text, matcher, chunk)));
+
+    return join(chunks);
+  }
+
+  /**
+   * searches the buffer from 0 up to its limit, its position is not changed
+   *
+   * @return the start of every match in increasing order, overlapping ones included
+   */
+  public int[] findAll(ByteBuffer text, ByteMatcher matcher)
+  {
+    if (text == null) return new int[0];
+
+    int[][] chunks = new int[chunkCount(text.limit())][];
+    pool.invoke(new SearchTask(chunks, 0, chunks.length, chunk -> searchChunk(text, matcher, chunk)));
+
+    return join(chunks);
+  }
+
+  private int chunkCount(int length)
+  {
+    return (int) ((length + (long) chunkSize - 1) / chunkSize);
+  }
+
+  private int[] searchChunk(char[] text, Matcher matcher, int chunk)
+  {
+    int start = chunk * chunkSize;
+    int end = (int) Math.min((long) start + chunkSize + matcher.length() - 1, text.length);
+
+//    the search stops pattern length - 1 past the chunk, so every match it finds starts inside the chunk
+    IntStream.Builder matches = IntStream.builder();
+    for (int i = matcher.find(text, start, end); i >= 0; i = matcher.find(text, i + 1, end))
+    {
+      matches.accept(i);
+    }
+
+    return matches.build().toArray();
+  }
+
+  private int[] searchChunk(ByteBuffer text, ByteMatcher matcher, int chunk)
+  {
+    int start = chunk * chunkSize;
+    int end = (int) Math.min((long) start + chunkSize + matcher.length() - 1, text.limit());
+
+//    a duplicate per worker, the limit cuts the search off where the next chunk takes over
+    ByteBuffer window = text.duplicate();
+    window.limit(end);
+
+    IntStream.Builder matches = IntStream.builder();
+    for (int i = matcher.find(window, start); i >= 0; i = matcher.find(window, i + 1))
+    {
+      matches.accept(i);
+    }
+
+    return matches.build().toArray();
+  }
+
+  private static int[] join(int[][] chunks)
+  {
+    int size = 0;
+    for (int[] chunk : chunks)
+    {
+      size += chunk.length;
+    }
+
+    int[] result = new int[size];
+    int offset = 0;
+    for (int[] chunk : chunks)
+    {
+      System.arraycopy(chunk, 0, result, offset, chunk.length);
+      offset += chunk.length;
+    }
+
+    return result;
+  }
+
+  private interface ChunkSearch
+  {
+    int[] search(int chunk);
+  }
+
+  /**
+   * splits the range of chunks in half until a single chunk is left
+   */
+  private static class SearchTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final int[][] chunks;
+    private final int from, to;
+    private final ChunkSearch search;
+
+    SearchTask(int[][] chunks, int from, int to, ChunkSearch search)
+    {
+      this.chunks = chunks;
+      this.from = from;
+      this.to = to;
+      this.search = search;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (to - from > 1)
+      {
+        int middle = (from + to) >>> 1;
+        invokeAll(new SearchTask(chunks, from, middle, search), new SearchTask(chunks, middle, to, search));
+        return;
+      }
+      if (to == from) return;
+
+      chunks[from] = search.search(from);
+    }
+  }
+}
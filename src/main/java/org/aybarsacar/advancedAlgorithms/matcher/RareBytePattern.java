@@ -0,0 +1,86 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import org.aybarsacar.advancedAlgorithms.helper.Swar;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Byte pattern search that skips ahead with a SWAR scan for the rarest byte of the pattern
+ * <p>
+ * Swar.indexOf tests 8 bytes per step, a candidate is checked against a second rare byte
+ * and only then compared byte by byte, so text without the rare byte is rejected at a word per step
+ */
+public final class RareBytePattern implements ByteMatcher
+{
+  private final byte[] pattern;
+  private final int rareIndex;
+  private final byte rare;
+  private final int pairIndex;
+  private final byte pair;
+
+  private RareBytePattern(byte[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+
+    int[] values = new int[pattern.length];
+    for (int i = 0; i < pattern.length; i++)
+    {
+      values[i] = pattern[i] & 0xFF;
+    }
+
+    rareIndex = CharFrequencies.rarest(values, -1);
+    rare = pattern[rareIndex];
+
+    int second = CharFrequencies.rarest(values, rareIndex);
+    pairIndex = second < 0 ? rareIndex : second;
+    pair = pattern[pairIndex];
+  }
+
+  /**
+   * @param pattern at least one byte
+   * @return an immutable matcher
+   */
+  public static RareBytePattern compile(byte[] pattern)
+  {
+    return new RareBytePattern(pattern);
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  @Override
+  public int find(ByteBuffer text, int from)
+  {
+    if (text == null) return -1;
+
+    int m = pattern.length;
+    int last = text.limit() - m;
+
+    for (int i = Math.max(from, 0); i <= last; )
+    {
+      int found = Swar.indexOf(text, rare, i + rareIndex, last + rareIndex + 1);
+      if (found < 0) return -1;
+
+      int candidate = found - rareIndex;
+      if (text.get(candidate + pairIndex) == pair && matches(text, candidate)) return candidate;
+
+      i = candidate + 1;
+    }
+
+    return -1;
+  }
+
+  private boolean matches(ByteBuffer text, int start)
+  {
+    for (int j = 0; j < pattern.length; j++)
+    {
+      if (text.get(start + j) != pattern[j]) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,87 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+/**
+ * Puts a rare char filter in front of another Matcher
+ * <p>
+ * most searches find nothing, so the time goes into rejecting positions, the filter only scans for the rarest
+ * char of the pattern in a tight loop and checks a second rare char before comparing the whole window
+ * <p>
+ * when the rare char turns out to be common in the text and most candidates fail,
+ * the rest of the text is left to the wrapped matcher, which is never slower than it would be on its own
+ */
+final class RareCharPrefilter implements Matcher
+{
+  //  after this many failed candidates the filter checks whether it still pays off
+  private static final int MIN_CANDIDATES = 64;
+
+  private final Matcher matcher;
+  private final char[] pattern;
+
+  //  index in the pattern and value of the rarest char and of the second rarest one
+  private final int rareIndex;
+  private final char rare;
+  private final int pairIndex;
+  private final char pair;
+
+  RareCharPrefilter(char[] pattern, Matcher matcher)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+    if (matcher.length() != pattern.length) throw new IllegalArgumentException("The matcher has to be compiled from the same pattern");
+
+    this.matcher = matcher;
+    this.pattern = pattern.clone();
+
+    int[] values = new int[pattern.length];
+    for (int i = 0; i < pattern.length; i++)
+    {
+      values[i] = pattern[i];
+    }
+
+    rareIndex = CharFrequencies.rarest(values, -1);
+    rare = pattern[rareIndex];
+
+//    a single char pattern checks the same char twice
+    int second = CharFrequencies.rarest(values, rareIndex);
+    pairIndex = second < 0 ? rareIndex : second;
+    pair = pattern[pairIndex];
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  @Override
+  public int find(char[] text, int from, int to)
+  {
+    if (text == null) return -1;
+
+    int m = pattern.length;
+    int start = Math.max(from, 0);
+    int end = Math.min(to, text.length) - m + rareIndex;
+    int failed = 0;
+
+    for (int i = start + rareIndex; i <= end; i++)
+    {
+      if (text[i] != rare) continue;
+
+      int candidate = i - rareIndex;
+      if (text[candidate + pairIndex] == pair && matches(text, candidate)) return candidate;
+
+//      more than one failed candidate in 16 chars, the filter only adds work
+      if (++failed >= MIN_CANDIDATES && failed > (i - start) >>> 4) return matcher.find(text, candidate + 1, to);
+    }
+
+    return -1;
+  }
+
+  private boolean matches(char[] text, int start)
+  {
+    for (int j = 0; j < pattern.length; j++)
+    {
+      if (text[start + j] != pattern[j]) return false;
+    }
+    return true;
+  }
+}
@@ -0,0 +1,51 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import java.nio.CharBuffer;
+import java.util.function.LongConsumer;
+
+/**
+ * Streams any Matcher by keeping the last m - 1 chars in front of the next chunk
+ * a match that started in earlier chunks is found once its last char arrives,
+ * and none can fit entirely in the kept chars so nothing is reported twice
+ */
+final class TailBufferMatchStream implements MatchStream
+{
+  private final Matcher matcher;
+  private final LongConsumer listener;
+
+  private final char[] tail;
+  private int tailLength;
+  private long position;
+
+  TailBufferMatchStream(Matcher matcher, LongConsumer listener)
+  {
+    this.matcher = matcher;
+    this.listener = listener;
+    this.tail = new char[Math.max(0, matcher.length() - 1)];
+  }
+
+  @Override
+  public void feed(CharBuffer chunk)
+  {
+    int length = chunk.remaining();
+    if (length == 0) return;
+
+    char[] text = new char[tailLength + length];
+    System.arraycopy(tail, 0, text, 0, tailLength);
+    chunk.get(text, tailLength, length);
+
+//    offset of text[0] in the stream
+    long start = position - tailLength;
+    matcher.findAll(text, i -> listener.accept(start + i));
+
+    tailLength = Math.min(tail.length, text.length);
+    System.arraycopy(text, text.length - tailLength, tail, 0, tailLength);
+    position += length;
+  }
+
+  @Override
+  public long position()
+  {
+    return position;
+  }
+}
@@ -1,14 +1,44 @@
 package org.aybarsacar.advancedAlgorithms.robinkarp;
 
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Robin-Karp Algorithm
  * it uses rolling hashing to find a match between the pattern and the array it is searching for
  * returns the index of the first char in the array
  * returns -1 if no match
+ * <p>
+ * the hash is the polynomial c0 * B^(m-1) + c1 * B^(m-2) + ... + c(m-1) modulo the Mersenne prime 2^61 - 1
+ * reducing modulo 2^61 - 1 only needs shifts and adds and the products are split so nothing overflows,
+ * two different windows collide with a chance of about m / 2^61 so the char by char check almost never fails
+ * <p>
+ * the base B is random per instance so no fixed input can be built to collide on purpose
  */
 public class RobinKarp
 {
-  private final int PRIME = 3;
+  //  2^61 - 1 is prime
+  public static final long MODULUS = (1L << 61) - 1;
+
+  private static final long MASK30 = (1L << 30) - 1;
+  private static final long MASK31 = (1L << 31) - 1;
+
+  private final long base;
+
+  public RobinKarp()
+  {
+//    larger than any char so the chars do not line up with the powers of the base
+    this(ThreadLocalRandom.current().nextLong(1L << 16, MODULUS - 1));
+  }
+
+  /**
+   * @param base of the polynomial, a fixed base gives the same hashes in every run
+   */
+  public RobinKarp(long base)
+  {
+    if (base < 2 || base >= MODULUS) throw new IllegalArgumentException("The base has to be in the range [2, 2^61 - 1)");
+
+    this.base = base;
+  }
 
   /**
    * learning = 8
@@ -23,47 +53,54 @@ public class RobinKarp
   public int search(char[] array, char[] pattern)
   {
     if (array == null || pattern == null) return -1;
+    if (pattern.length == 0) return 0;
 
-    int n = array.length;
-    int m = pattern.length;
-    int lastChar = n - m;
-
-    long patternHash = calculateHash(pattern, m);
-    long arrayHash = calculateHash(array, m);
+    return new RobinKarpPattern(this, pattern).find(array, 0);
+  }
 
-    for (int i = 0; i <= lastChar; i++)
-    {
-      if (patternHash == arrayHash && match(array, pattern, i))
-      {
-//        Brute force
-        return i;
-      }
-
-      if (i < lastChar)
-      {
-//        recalculate the hash
-        arrayHash = recalculateHash(arrayHash, array[i], array[i + m], m);
-      }
-    }
+  /**
+   * @param pattern at least one char
+   * @return an immutable matcher that hashes the pattern once
+   */
+  public static RobinKarpPattern compile(char[] pattern)
+  {
+    return new RobinKarpPattern(new RobinKarp(), pattern);
+  }
 
-    return -1;
+  /**
+   * compiles patterns of the same length into one matcher that checks all of them in a single rolling pass
+   *
+   * @param patterns at least one, all of the same non zero length
+   * @return an immutable matcher reporting matches by the index of the pattern
+   */
+  public static RobinKarpMultiPattern compileAll(char[]... patterns)
+  {
+    return new RobinKarpMultiPattern(new RobinKarp(), patterns);
   }
 
   public boolean match(char[] array, char[] pattern, int index)
   {
-    for (int i = 0; i < pattern.length; i ++)
+    for (int i = 0; i < pattern.length; i++)
     {
       if (array[index + i] != pattern[i]) return false;
     }
     return true;
   }
 
-  public long recalculateHash(long oldHash, char oldChar, char newChar, int hashSize)
+  /**
+   * slides the window one char to the right
+   *
+   * @param oldHash hash of the window
+   * @param oldChar first char of the window, the one leaving
+   * @param newChar char right after the window, the one entering
+   * @param power   B^(m-1) for a window of m chars, see power
+   * @return the hash of the new window
+   */
+  public long recalculateHash(long oldHash, char oldChar, char newChar, long power)
   {
-    long hash = oldHash - charValue(oldChar);
-    hash = hash / PRIME;
-    hash += charValue(newChar) * Math.pow(PRIME, hashSize - 1);
-    return hash;
+//    adding MODULUS keeps the difference positive
+    long hash = oldHash + MODULUS - multiply(oldChar, power);
+    return mod(multiply(mod(hash), base) + newChar);
   }
 
   /**
@@ -72,20 +109,67 @@ public class RobinKarp
    * @return
    */
   public long calculateHash(char[] text, int hashSize)
+  {
+    return calculateHash(text, 0, hashSize);
+  }
+
+  public long calculateHash(char[] text, int offset, int length)
   {
     long hash = 0;
 
-    for (int i = 0; i < hashSize; i++)
+    for (int i = offset; i < offset + length; i++)
     {
-      hash += charValue(text[i]) * Math.pow(PRIME, i);
+      hash = mod(multiply(hash, base) + text[i]);
     }
 
     return hash;
   }
 
-  //  we don really need this function, its more like a convenience
-  public int charValue(char c)
+  /**
+   * @return B^exponent modulo MODULUS by repeated squaring
+   */
+  public long power(int exponent)
+  {
+    long result = 1;
+    long square = base;
+
+    for (int e = exponent; e > 0; e >>>= 1)
+    {
+      if ((e & 1) == 1) result = multiply(result, square);
+      square = multiply(square, square);
+    }
+
+    return result;
+  }
+
+  public long base()
+  {
+    return base;
+  }
+
+  /**
+   * a * b modulo MODULUS for a and b below MODULUS
+   * the 61 bit numbers are split in 30 and 31 bit halves so every partial product fits in a long
+   */
+  static long multiply(long a, long b)
+  {
+    long au = a >>> 31, ad = a & MASK31;
+    long bu = b >>> 31, bd = b & MASK31;
+
+    long mid = ad * bu + au * bd;
+    long midu = mid >>> 30, midd = mid & MASK30;
+
+//    2^62 = 2 mod MODULUS and 2^61 = 1 mod MODULUS
+    return mod(au * bu * 2 + midu + (midd << 31) + ad * bd);
+  }
+
+  /**
+   * @param x any non negative long
+   * @return x modulo MODULUS
+   */
+  static long mod(long x)
   {
-    return c - 96; // so lets say 'a' -> 1
+    long result = (x & MODULUS) + (x >>> 61);
+    return result >= MODULUS ? result - MODULUS : result;
   }
 }
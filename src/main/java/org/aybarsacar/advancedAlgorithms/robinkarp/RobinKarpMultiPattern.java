@@ -0,0 +1,140 @@
+package org.aybarsacar.advancedAlgorithms.robinkarp;
+
+import org.aybarsacar.advancedAlgorithms.matcher.MatchListener;
+
+import java.util.Arrays;
+
+/**
+ * Robin-Karp over many patterns of the same length at once
+ * every window of the text is hashed once by the rolling hash and looked up in the sorted pattern hashes,
+ * so a pass costs O(n log k) for k patterns instead of k passes
+ * <p>
+ * useful for fingerprinting, e.g. finding which fixed size shingles of a document also appear in another one
+ */
+public final class RobinKarpMultiPattern
+{
+  private final RobinKarp rk;
+  private final char[][] patterns;
+  private final int m;
+  private final long power;
+
+  //  pattern hashes in ascending order and the index of the pattern each one belongs to
+  private final long[] hashes;
+  private final int[] ids;
+
+  RobinKarpMultiPattern(RobinKarp rk, char[]... patterns)
+  {
+    if (patterns == null || patterns.length == 0) throw new IllegalArgumentException("There has to be at least one pattern");
+
+    this.rk = rk;
+    this.patterns = new char[patterns.length][];
+    this.m = patterns[0] == null ? 0 : patterns[0].length;
+    if (m == 0) throw new IllegalArgumentException("The patterns can not be empty");
+
+    long[] keys = new long[patterns.length];
+    for (int i = 0; i < patterns.length; i++)
+    {
+      if (patterns[i] == null || patterns[i].length != m) throw new IllegalArgumentException("All patterns have to be " + m + " chars long");
+
+      this.patterns[i] = patterns[i].clone();
+      keys[i] = rk.calculateHash(this.patterns[i], m);
+    }
+
+//    sort the indices by hash so equal hashes end up next to each other
+    Integer[] order = new Integer[patterns.length];
+    for (int i = 0; i < order.length; i++)
+    {
+      order[i] = i;
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(keys[a], keys[b]));
+
+    this.hashes = new long[order.length];
+    this.ids = new int[order.length];
+    for (int i = 0; i < order.length; i++)
+    {
+      hashes[i] = keys[order[i]];
+      ids[i] = order[i];
+    }
+
+    this.power = rk.power(m - 1);
+  }
+
+  /**
+   * @return the length shared by all the patterns
+   */
+  public int length()
+  {
+    return m;
+  }
+
+  /**
+   * @return number of patterns
+   */
+  public int size()
+  {
+    return patterns.length;
+  }
+
+  /**
+   * reports every match of every pattern in the order they start in the text,
+   * patterns that are equal are all reported for the same window
+   *
+   * @param text     to search in
+   * @param listener receives the index of the pattern in compileAll and where the match starts
+   */
+  public void findAll(char[] text, MatchListener listener)
+  {
+    if (text == null || text.length < m) return;
+
+    int lastChar = text.length - m;
+    long hash = rk.calculateHash(text, 0, m);
+
+    for (int i = 0; i <= lastChar; i++)
+    {
+      for (int j = first(hash); j < hashes.length && hashes[j] == hash; j++)
+      {
+        if (rk.match(text, patterns[ids[j]], i)) listener.match(ids[j], i);
+      }
+
+      if (i < lastChar) hash = rk.recalculateHash(hash, text[i], text[i + m], power);
+    }
+  }
+
+  /**
+   * @return true if any pattern occurs in the text, stops at the first match
+   */
+  public boolean containsAny(char[] text)
+  {
+    if (text == null || text.length < m) return false;
+
+    int lastChar = text.length - m;
+    long hash = rk.calculateHash(text, 0, m);
+
+    for (int i = 0; i <= lastChar; i++)
+    {
+      for (int j = first(hash); j < hashes.length && hashes[j] == hash; j++)
+      {
+        if (rk.match(text, patterns[ids[j]], i)) return true;
+      }
+
+      if (i < lastChar) hash = rk.recalculateHash(hash, text[i], text[i + m], power);
+    }
+
+    return false;
+  }
+
+  /**
+   * @return index of the first pattern hash that is not smaller than the hash
+   */
+  private int first(long hash)
+  {
+    int low = 0, high = hashes.length;
+    while (low < high)
+    {
+      int mid = (low + high) >>> 1;
+      if (hashes[mid] < hash) low = mid + 1;
+      else high = mid;
+    }
+    return low;
+  }
+}
@@ -0,0 +1,52 @@
+package org.aybarsacar.advancedAlgorithms.robinkarp;
+
+import org.aybarsacar.advancedAlgorithms.matcher.Matcher;
+
+/**
+ * The Robin-Karp search behind the Matcher interface
+ * the hash of the pattern and B^(m-1) are computed once, a window is only compared char by char when the hashes agree
+ */
+public final class RobinKarpPattern implements Matcher
+{
+  private final RobinKarp rk;
+  private final char[] pattern;
+  private final long patternHash;
+  private final long power;
+
+  RobinKarpPattern(RobinKarp rk, char[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.rk = rk;
+    this.pattern = pattern.clone();
+    this.patternHash = rk.calculateHash(this.pattern, this.pattern.length);
+    this.power = rk.power(this.pattern.length - 1);
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  @Override
+  public int find(char[] text, int from, int to)
+  {
+    if (text == null) return -1;
+
+    int m = pattern.length;
+    int lastChar = Math.min(to, text.length) - m;
+    from = Math.max(from, 0);
+    if (from > lastChar) return -1;
+
+    long hash = rk.calculateHash(text, from, m);
+    for (int i = from; i <= lastChar; i++)
+    {
+      if (hash == patternHash && rk.match(text, pattern, i)) return i;
+
+      if (i < lastChar) hash = rk.recalculateHash(hash, text[i], text[i + m], power);
+    }
+
+    return -1;
+  }
+}
@@ -0,0 +1,299 @@
+package org.aybarsacar.advancedAlgorithms.suffixarray;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Builds a SuffixArray by prefix doubling on a ForkJoinPool
+ * <p>
+ * after a round with step h the suffixes are sorted by their first 2h chars (the first char for h = 0)
+ * and split into groups that are still equal on them, the rank of a suffix is where its group starts,
+ * the next round sorts every group by the rank of the suffix h chars further on, which doubles the sorted length
+ * <p>
+ * the groups are independent so a round splits the array at group borders into chunks of about chunkSize
+ * and sorts them in parallel, a group larger than a chunk is merge sorted in parallel on its own,
+ * the ranks are only rewritten once every group of the round is sorted
+ * <p>
+ * the suffix array of a text is unique so the result is the same as SuffixArray.build,
+ * it takes O(n log n) work per round and a round per doubling, with 8 bytes per char for the sort keys
+ */
+public class ParallelSuffixArray
+{
+  public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  public ParallelSuffixArray()
+  {
+    this(ForkJoinPool.commonPool(), DEFAULT_CHUNK_SIZE);
+  }
+
+  public ParallelSuffixArray(ForkJoinPool pool, int chunkSize)
+  {
+    if (chunkSize <= 0) throw new IllegalArgumentException("chunkSize has to be positive");
+
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * @param text to index, any chars
+   * @return the suffix array of the text, without the LCP array
+   */
+  public SuffixArray build(char[] text)
+  {
+    if (text == null) throw new IllegalArgumentException("The text can not be null");
+
+    int n = text.length;
+    int[] sa = new int[n];
+    for (int i = 0; i < n; i++)
+    {
+      sa[i] = i;
+    }
+
+//    a single group to start with, every suffix ranked 0
+    Rounds rounds = new Rounds(text, sa, new int[n], new boolean[n], new long[n], chunkSize);
+    if (n > 0) rounds.heads[0] = true;
+
+    for (int h = 0, unsorted = n > 1 ? 1 : 0; unsorted > 0; h = Math.max(1, h * 2))
+    {
+      rounds.h = h;
+      pool.invoke(new SortTask(rounds, 0, n));
+      unsorted = pool.invoke(new RankTask(rounds, 0, n));
+    }
+
+    return new SuffixArray(text, sa);
+  }
+
+  /**
+   * the state shared by the tasks of the rounds
+   */
+  private static class Rounds
+  {
+    final char[] text;
+    final int[] sa;
+    final int[] ranks;
+    //  where a group starts in the suffix array
+    final boolean[] heads;
+    //  sort key of the suffix at every place of the suffix array
+    final long[] keys;
+    final int chunkSize;
+    int h;
+
+    Rounds(char[] text, int[] sa, int[] ranks, boolean[] heads, long[] keys, int chunkSize)
+    {
+      this.text = text;
+      this.sa = sa;
+      this.ranks = ranks;
+      this.heads = heads;
+      this.keys = keys;
+      this.chunkSize = chunkSize;
+    }
+
+    /**
+     * @return the first group border after the middle of the range, or to when there is none
+     */
+    int split(int from, int to)
+    {
+      int middle = (from + to) >>> 1;
+      while (middle < to && !heads[middle])
+      {
+        middle++;
+      }
+      return middle;
+    }
+
+    int groupEnd(int start, int to)
+    {
+      int end = start + 1;
+      while (end < to && !heads[end])
+      {
+        end++;
+      }
+      return end;
+    }
+
+    /**
+     * the rank of the suffix h chars further on in the high half and the suffix itself in the low half,
+     * 0 for a suffix that ends before it so shorter suffixes come first
+     */
+    long key(int suffix)
+    {
+      long next;
+      if (h == 0) next = text[suffix] + 1;
+      else next = suffix + h < sa.length ? ranks[suffix + h] + 1 : 0;
+
+      return next << 32 | suffix;
+    }
+  }
+
+  /**
+   * sorts every group of a range, the range starts and ends at group borders
+   */
+  private static class SortTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final Rounds rounds;
+    private final int from, to;
+
+    SortTask(Rounds rounds, int from, int to)
+    {
+      this.rounds = rounds;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (to - from > rounds.chunkSize)
+      {
+        int middle = rounds.split(from, to);
+        if (middle < to)
+        {
+          invokeAll(new SortTask(rounds, from, middle), new SortTask(rounds, middle, to));
+          return;
+        }
+      }
+
+      for (int start = from; start < to; )
+      {
+        int end = rounds.groupEnd(start, to);
+        if (end - start > 1) sortGroup(start, end);
+        start = end;
+      }
+    }
+
+    private void sortGroup(int start, int end)
+    {
+      long[] keys = rounds.keys;
+      for (int i = start; i < end; i++)
+      {
+        keys[i] = rounds.key(rounds.sa[i]);
+      }
+
+      if (end - start > rounds.chunkSize)
+      {
+        new MergeSortTask(keys, new long[end - start], start, end, start, rounds.chunkSize).invoke();
+      }
+      else
+      {
+        Arrays.sort(keys, start, end);
+      }
+
+      for (int i = start; i < end; i++)
+      {
+        rounds.sa[i] = (int) keys[i];
+//        a new group starts where the high half changes
+        if (i > start && keys[i] >>> 32 != keys[i - 1] >>> 32) rounds.heads[i] = true;
+      }
+    }
+  }
+
+  /**
+   * ranks every suffix of a range by where its group starts
+   *
+   * @return number of groups that are not sorted yet
+   */
+  private static class RankTask extends RecursiveTask<Integer>
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final Rounds rounds;
+    private final int from, to;
+
+    RankTask(Rounds rounds, int from, int to)
+    {
+      this.rounds = rounds;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected Integer compute()
+    {
+      if (to - from > rounds.chunkSize)
+      {
+        int middle = rounds.split(from, to);
+        if (middle < to)
+        {
+          RankTask right = new RankTask(rounds, middle, to);
+          right.fork();
+          int left = new RankTask(rounds, from, middle).compute();
+          return left + right.join();
+        }
+      }
+
+      int unsorted = 0;
+      for (int start = from; start < to; )
+      {
+        int end = rounds.groupEnd(start, to);
+        for (int i = start; i < end; i++)
+        {
+          rounds.ranks[rounds.sa[i]] = start;
+        }
+        if (end - start > 1) unsorted++;
+        start = end;
+      }
+
+      return unsorted;
+    }
+  }
+
+  /**
+   * sorts keys[from, to) by sorting both halves in parallel and merging them through buffer,
+   * buffer[i - offset] is the place of keys[i]
+   */
+  private static class MergeSortTask extends RecursiveAction
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final long[] keys, buffer;
+    private final int from, to, offset;
+    private final int chunkSize;
+
+    MergeSortTask(long[] keys, long[] buffer, int from, int to, int offset, int chunkSize)
+    {
+      this.keys = keys;
+      this.buffer = buffer;
+      this.from = from;
+      this.to = to;
+      this.offset = offset;
+      this.chunkSize = chunkSize;
+    }
+
+    @Override
+    protected void compute()
+    {
+      if (to - from <= chunkSize)
+      {
+        Arrays.sort(keys, from, to);
+        return;
+      }
+
+      int middle = (from + to) >>> 1;
+      invokeAll(new MergeSortTask(keys, buffer, from, middle, offset, chunkSize),
+          new MergeSortTask(keys, buffer, middle, to, offset, chunkSize));
+
+      int i = from, j = middle, k = from - offset;
+      while (i < middle && j < to)
+      {
+        buffer[k++] = keys[i] <= keys[j] ? keys[i++] : keys[j++];
+      }
+      while (i < middle)
+      {
+        buffer[k++] = keys[i++];
+      }
+      while (j < to)
+      {
+        buffer[k++] = keys[j++];
+      }
+
+      System.arraycopy(buffer, from - offset, keys, from, to - from);
+    }
+  }
+}
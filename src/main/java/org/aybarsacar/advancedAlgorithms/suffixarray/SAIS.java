@@ -0,0 +1,154 @@
+package org.aybarsacar.advancedAlgorithms.suffixarray;
+
+import java.util.Arrays;
+
+/**
+ * Suffix array construction by induced sorting (SA-IS) in O(n)
+ * <p>
+ * a suffix is S type when it is smaller than the next one and L type when it is larger,
+ * an S suffix right after an L suffix is a left most S (LMS) suffix
+ * once the LMS suffixes are in order, one pass left to right places all L suffixes in their buckets
+ * and one pass right to left all S suffixes, this is induce
+ * <p>
+ * the LMS suffixes are put in order by inducing once from an arbitrary order, which sorts the LMS substrings,
+ * naming equal substrings the same and sorting the names recursively, the names are at most half as many
+ */
+final class SAIS
+{
+  private SAIS()
+  {
+  }
+
+  /**
+   * @param s     the text, every value in [0, upper]
+   * @param upper the largest value that may occur
+   * @return the start of every suffix of s in increasing order of the suffixes
+   */
+  static int[] build(int[] s, int upper)
+  {
+    int n = s.length;
+    if (n == 0) return new int[0];
+    if (n == 1) return new int[]{0};
+    if (n == 2) return s[0] < s[1] ? new int[]{0, 1} : new int[]{1, 0};
+
+    int[] sa = new int[n];
+
+//    S type or not, the last suffix is L type since it is followed by the empty one
+    boolean[] ls = new boolean[n];
+    for (int i = n - 2; i >= 0; i--)
+    {
+      ls[i] = s[i] == s[i + 1] ? ls[i + 1] : s[i] < s[i + 1];
+    }
+
+//    where the L and the S part of every bucket start
+    int[] sumL = new int[upper + 2];
+    int[] sumS = new int[upper + 2];
+    for (int i = 0; i < n; i++)
+    {
+      if (!ls[i]) sumS[s[i]]++;
+      else sumL[s[i] + 1]++;
+    }
+    for (int i = 0; i <= upper; i++)
+    {
+      sumS[i] += sumL[i];
+      if (i < upper) sumL[i + 1] += sumS[i];
+    }
+
+    int[] lmsMap = new int[n + 1];
+    Arrays.fill(lmsMap, -1);
+    int m = 0;
+    for (int i = 1; i < n; i++)
+    {
+      if (!ls[i - 1] && ls[i]) lmsMap[i] = m++;
+    }
+
+    int[] lms = new int[m];
+    for (int i = 1, j = 0; i < n; i++)
+    {
+      if (!ls[i - 1] && ls[i]) lms[j++] = i;
+    }
+
+    int[] buffer = new int[upper + 2];
+    induce(s, sa, ls, lms, sumL, sumS, buffer);
+
+    if (m > 0)
+    {
+      int[] sortedLms = new int[m];
+      for (int i = 0, j = 0; i < n; i++)
+      {
+        if (lmsMap[sa[i]] != -1) sortedLms[j++] = sa[i];
+      }
+
+//      name the LMS substrings, equal substrings get the same name
+      int[] names = new int[m];
+      int upperName = 0;
+      names[lmsMap[sortedLms[0]]] = 0;
+
+      for (int i = 1; i < m; i++)
+      {
+        int l = sortedLms[i - 1], r = sortedLms[i];
+        int endL = lmsMap[l] + 1 < m ? lms[lmsMap[l] + 1] : n;
+        int endR = lmsMap[r] + 1 < m ? lms[lmsMap[r] + 1] : n;
+
+        boolean same = true;
+        if (endL - l != endR - r)
+        {
+          same = false;
+        }
+        else
+        {
+          while (l < endL && s[l] == s[r])
+          {
+            l++;
+            r++;
+          }
+          if (l == n || s[l] != s[r]) same = false;
+        }
+
+        if (!same) upperName++;
+        names[lmsMap[sortedLms[i]]] = upperName;
+      }
+
+      int[] namesSa = build(names, upperName);
+      for (int i = 0; i < m; i++)
+      {
+        sortedLms[i] = lms[namesSa[i]];
+      }
+
+      induce(s, sa, ls, sortedLms, sumL, sumS, buffer);
+    }
+
+    return sa;
+  }
+
+  private static void induce(int[] s, int[] sa, boolean[] ls, int[] lms, int[] sumL, int[] sumS, int[] buffer)
+  {
+    int n = s.length;
+    Arrays.fill(sa, -1);
+
+//    the LMS suffixes at the ends of the S parts, in the given order
+    System.arraycopy(sumS, 0, buffer, 0, sumS.length);
+    for (int d : lms)
+    {
+      if (d == n) continue;
+      sa[buffer[s[d]]++] = d;
+    }
+
+//    L suffixes left to right, the last suffix first since nothing comes after it
+    System.arraycopy(sumL, 0, buffer, 0, sumL.length);
+    sa[buffer[s[n - 1]]++] = n - 1;
+    for (int i = 0; i < n; i++)
+    {
+      int v = sa[i];
+      if (v >= 1 && !ls[v - 1]) sa[buffer[s[v - 1]]++] = v - 1;
+    }
+
+//    S suffixes right to left, filling every bucket from its end
+    System.arraycopy(sumL, 0, buffer, 0, sumL.length);
+    for (int i = n - 1; i >= 0; i--)
+    {
+      int v = sa[i];
+      if (v >= 1 && ls[v - 1]) sa[--buffer[s[v - 1] + 1]] = v - 1;
+    }
+  }
+}
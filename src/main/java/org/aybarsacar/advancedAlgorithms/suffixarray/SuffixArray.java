@@ -0,0 +1,259 @@
+package org.aybarsacar.advancedAlgorithms.suffixarray;
+
+import java.util.Arrays;
+
+/**
+ * Suffix Array
+ * the starts of all suffixes of the text in increasing order of the suffixes, a shorter suffix comes first
+ * when it is a prefix of a longer one
+ * <p>
+ * built in O(n) by induced sorting (see SAIS) over the chars that occur in the text,
+ * the array is 4 bytes per char next to the text where a SuffixTree needs several ints per node,
+ * the LCP array adds another 4 bytes per char and is only built when it is asked for
+ * <p>
+ * the suffixes that start with a pattern are a range of the array, found by two binary searches,
+ * every step compares from the shorter of the prefixes the pattern shares with the two ends of the range
+ * since every suffix in between shares at least that much, so long shared prefixes are not compared again
+ * <p>
+ * see ParallelSuffixArray to build the same array on several cores
+ * <p>
+ * the text is not copied and must not change while the array is used
+ */
+public class SuffixArray
+{
+  private static final int ALPHABET_SIZE = Character.MAX_VALUE + 1;
+
+  private final char[] text;
+  private final int[] sa;
+  private int[] lcp;
+
+  SuffixArray(char[] text, int[] sa)
+  {
+    this.text = text;
+    this.sa = sa;
+  }
+
+  /**
+   * @param text to index, any chars
+   * @return the suffix array of the text, without the LCP array
+   */
+  public static SuffixArray build(char[] text)
+  {
+    if (text == null) throw new IllegalArgumentException("The text can not be null");
+
+    int[] s = ranks(text);
+
+    int upper = 0;
+    for (int c : s)
+    {
+      upper = Math.max(upper, c);
+    }
+
+    return new SuffixArray(text, SAIS.build(s, upper));
+  }
+
+  /**
+   * LCP array by Kasai's algorithm in O(n)
+   * going through the suffixes by start, the next suffix shares at least one char less with its predecessor
+   * in the array than this one did, so the compared length only drops by one per suffix
+   *
+   * @param text the indexed text
+   * @param sa   its suffix array
+   * @return lcp[i] is the length of the longest common prefix of the suffixes sa[i - 1] and sa[i], lcp[0] is 0
+   */
+  public static int[] lcpArray(char[] text, int[] sa)
+  {
+    int n = sa.length;
+    int[] rank = new int[n];
+    for (int i = 0; i < n; i++)
+    {
+      rank[sa[i]] = i;
+    }
+
+    int[] lcp = new int[n];
+    for (int i = 0, h = 0; i < n; i++)
+    {
+      if (h > 0) h--;
+      if (rank[i] == 0)
+      {
+        h = 0;
+        continue;
+      }
+
+      int j = sa[rank[i] - 1];
+      while (i + h < n && j + h < n && text[i + h] == text[j + h])
+      {
+        h++;
+      }
+      lcp[rank[i]] = h;
+    }
+
+    return lcp;
+  }
+
+  /**
+   * @return the suffix array, shared with this object so it must not be changed
+   */
+  public int[] sa()
+  {
+    return sa;
+  }
+
+  /**
+   * @return the LCP array, built on the first call and shared with this object so it must not be changed
+   */
+  public int[] lcp()
+  {
+    if (lcp == null) lcp = lcpArray(text, sa);
+    return lcp;
+  }
+
+  public int length()
+  {
+    return sa.length;
+  }
+
+  public boolean contains(char[] pattern)
+  {
+    return count(pattern) > 0;
+  }
+
+  /**
+   * @return number of occurrences of the pattern, overlapping ones included
+   */
+  public int count(char[] pattern)
+  {
+    checkPattern(pattern);
+    return bound(pattern, true) - bound(pattern, false);
+  }
+
+  /**
+   * @return the start of some occurrence of the pattern or -1, not necessarily the first one in the text
+   */
+  public int find(char[] pattern)
+  {
+    checkPattern(pattern);
+
+    int lower = bound(pattern, false);
+    if (lower < sa.length && startsWith(sa[lower], pattern)) return sa[lower];
+
+    return -1;
+  }
+
+  /**
+   * @return the starts of all occurrences of the pattern in increasing order
+   */
+  public int[] findAll(char[] pattern)
+  {
+    checkPattern(pattern);
+
+    int lower = bound(pattern, false);
+    int upper = bound(pattern, true);
+
+    int[] starts = Arrays.copyOfRange(sa, lower, upper);
+    Arrays.sort(starts);
+    return starts;
+  }
+
+  /**
+   * @return the longest substring that occurs at least twice, empty if no char repeats
+   */
+  public char[] longestRepeatedSubstring()
+  {
+    if (sa.length == 0) return new char[0];
+
+    int[] lcp = lcp();
+
+    int best = 0;
+    for (int i = 1; i < lcp.length; i++)
+    {
+      if (lcp[i] > lcp[best]) best = i;
+    }
+
+    return Arrays.copyOfRange(text, sa[best], sa[best] + lcp[best]);
+  }
+
+  /**
+   * binary search for the first suffix that is not smaller than the pattern,
+   * or with upper the first one that is larger and does not start with it
+   */
+  private int bound(char[] pattern, boolean upper)
+  {
+    int n = sa.length;
+    int low = 0, high = n;
+
+//    chars the pattern shares with the suffix right below low and the one at high
+    int lowMatch = 0, highMatch = 0;
+
+    while (low < high)
+    {
+      int mid = (low + high) >>> 1;
+      int start = sa[mid];
+
+      int k = Math.min(lowMatch, highMatch);
+      while (k < pattern.length && start + k < n && text[start + k] == pattern[k])
+      {
+        k++;
+      }
+
+      boolean below;
+      if (k == pattern.length) below = upper;
+      else if (start + k == n) below = true;
+      else below = text[start + k] < pattern[k];
+
+      if (below)
+      {
+        low = mid + 1;
+        lowMatch = k;
+      }
+      else
+      {
+        high = mid;
+        highMatch = k;
+      }
+    }
+
+    return low;
+  }
+
+  private boolean startsWith(int start, char[] pattern)
+  {
+    if (start + pattern.length > text.length) return false;
+
+    for (int i = 0; i < pattern.length; i++)
+    {
+      if (text[start + i] != pattern[i]) return false;
+    }
+    return true;
+  }
+
+  private static void checkPattern(char[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+  }
+
+  /**
+   * @return the text with every char replaced by its rank among the chars that occur, which keeps the buckets small
+   */
+  private static int[] ranks(char[] text)
+  {
+    int[] rank = new int[ALPHABET_SIZE];
+    for (char c : text)
+    {
+      rank[c] = 1;
+    }
+
+    int next = 0;
+    for (int c = 0; c < ALPHABET_SIZE; c++)
+    {
+      if (rank[c] != 0) rank[c] = next++;
+    }
+
+    int[] s = new int[text.length];
+    for (int i = 0; i < text.length; i++)
+    {
+      s[i] = rank[text[i]];
+    }
+    return s;
+  }
+}
@@ -5,18 +5,18 @@ package org.aybarsacar.advancedAlgorithms.suffixtree;
  */
 public class ActivePoint
 {
-  SuffixNode activeNode;
+  int activeNode;
   int activeEdge;
   int activeLength;
 
-  public ActivePoint(SuffixNode activeNode)
+  public ActivePoint(int activeNode)
   {
     this.activeNode = activeNode;
     this.activeEdge = -1;
     this.activeLength = 0;
   }
 
-  public ActivePoint(SuffixNode activeNode, int activeEdge, int activeLength)
+  public ActivePoint(int activeNode, int activeEdge, int activeLength)
   {
     this.activeNode = activeNode;
     this.activeEdge = activeEdge;
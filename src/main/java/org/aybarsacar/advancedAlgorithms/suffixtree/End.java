@@ -1,15 +0,0 @@
-package org.aybarsacar.advancedAlgorithms.suffixtree;
-
-/**
- * represents the end in our Suffix Node
- * so we can have the reference in the memory
- */
-public class End
-{
-  int end;
-
-  public End(int end)
-  {
-    this.end = end;
-  }
-}
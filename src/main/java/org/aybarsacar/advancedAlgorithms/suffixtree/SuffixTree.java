@@ -1,28 +1,91 @@
 package org.aybarsacar.advancedAlgorithms.suffixtree;
 
-import java.util.ArrayList;
-import java.util.List;
+import org.aybarsacar.advancedAlgorithms.helper.LongIntHashMap;
+
+import java.util.Arrays;
 
 /**
  * This Suffix Tree is implemented using Ukkonen's Algorithm
+ * <p>
+ * nodes are ints and live in parallel arrays instead of objects, a node is the edge from its parent
+ * labelled input[edgeStart(node)..end(node)]
+ * <p>
+ * internal nodes and the root are numbered from 0, Ukkonen creates the leaves in the order of their suffixes
+ * so the leaf of the suffix starting at k is the node -2 - k, it needs no suffix index, no end
+ * since every leaf ends at the global end and no suffix link, which only internal nodes have
+ * <p>
+ * the child of a node for a char is found in one hash map keyed by (node, char),
+ * and the children of a node are also chained through firstChild and nextSibling for the traversals,
+ * so a node costs a few ints whatever the alphabet instead of a 256 slot array
+ * <p>
+ * the internal arrays grow as nodes are made and are trimmed at the end of the build, the suffix links
+ * are dropped then and the edge map is shrunk to a load factor of 0.75,
+ * a built tree keeps about 40 bytes per char of random text over 26 chars and about 57 over 4 chars
+ * where there are more internal nodes, 2 of those bytes are its copy of the input, the build needs more while it runs
+ * <p>
+ * the build is quiet, setTracer shows every extension while it runs
+ * <p>
+ * after the build every node knows its string depth and the range of leaves below it in tree order,
+ * so a pattern is found by walking O(m) chars from the root, counted in O(1)
+ * and its occurrences are the suffix indexes of that leaf range
+ * <p>
+ * the input can not contain $, which terminates it, or char 0, which getNextCharacter uses for no char
  */
 public class SuffixTree
 {
   private final char UNIQUE_CHAR = '$';
 
-  SuffixNode root;
+  private static final int NONE = -1;
+
+  //  share of the edge map in use after the build
+  private static final float EDGE_LOAD_FACTOR = 0.75f;
+
+  int root;
   private ActivePoint activePoint;
   private char[] input;
   private int remaining;
-  private End end;
+  private int end;
+
+  //  per internal node, suffixLink only while building
+  private int internalCount;
+  private int[] start;
+  private int[] ends;
+  private int[] suffixLink;
+  private int[] firstChild;
+  private int[] nextSibling;
+
+  //  per leaf, leaf k is the node -2 - k
+  private int leafTotal;
+  private int[] leafStart;
+  private int[] leafNext;
+
+  //  (node, first char of the edge) -> child
+  private LongIntHashMap children;
+
+  //  null while building quietly
+  private SuffixTreeTracer tracer;
+
+  //  per internal node: chars on the path from the root, number of leaves below and the first of them in leafOrder
+  private int[] depth;
+  private int[] leafCount;
+  private int[] firstLeaf;
+
+  //  suffix indexes of the leaves in tree order
+  private int[] leafOrder;
 
   /**
    * banana -> banana$
    *
-   * @param input the text
+   * @param input the text, without $ and char 0
    */
   public SuffixTree(char[] input)
   {
+    for (char c : input)
+    {
+      if (c == UNIQUE_CHAR) throw new IllegalArgumentException("The input can not contain $");
+      if (c == 0) throw new IllegalArgumentException("The input can not contain char 0");
+    }
+
     this.input = addUnique(input);
   }
 
@@ -34,9 +97,23 @@ public class SuffixTree
    */
   public void buildSuffixTree()
   {
-    root = new SuffixNode(1, new End(0));
-    root.index = -1;
-    this.end = new End(-1);
+//    n leaves and up to n - 1 internal nodes besides the root, random text has about one per four chars
+    int n = input.length;
+    int capacity = n / 4 + 16;
+    start = new int[capacity];
+    ends = new int[capacity];
+    suffixLink = new int[capacity];
+    firstChild = new int[capacity];
+    nextSibling = new int[capacity];
+    leafStart = new int[n];
+    leafNext = new int[n];
+    children = new LongIntHashMap(n + capacity, EDGE_LOAD_FACTOR);
+    internalCount = 0;
+    leafTotal = 0;
+    remaining = 0;
+
+    root = newInternalNode(1, 0);
+    this.end = -1;
     activePoint = new ActivePoint(root);
 
     for (int i = 0; i < input.length; i++)
@@ -44,7 +121,219 @@ public class SuffixTree
       startPhase(i);
     }
 
-    setIndex(root, 0, input.length);
+    trim();
+    annotate();
+  }
+
+  /**
+   * @return true if the pattern occurs in the text
+   */
+  public boolean contains(char[] pattern)
+  {
+    return locate(pattern) != NONE;
+  }
+
+  /**
+   * @return number of occurrences of the pattern, overlapping ones included
+   */
+  public int count(char[] pattern)
+  {
+    int node = locate(pattern);
+    if (node == NONE) return 0;
+
+    return isLeaf(node) ? 1 : leafCount[node];
+  }
+
+  /**
+   * @return the start of every occurrence of the pattern in increasing order
+   */
+  public int[] findAll(char[] pattern)
+  {
+    int node = locate(pattern);
+    if (node == NONE) return new int[0];
+    if (isLeaf(node)) return new int[]{suffixIndex(node)};
+
+    int[] positions = Arrays.copyOfRange(leafOrder, firstLeaf[node], firstLeaf[node] + leafCount[node]);
+    Arrays.sort(positions);
+    return positions;
+  }
+
+  /**
+   * the deepest internal node, its path occurs at least twice
+   *
+   * @return the longest substring that occurs more than once, empty if no char repeats
+   */
+  public char[] longestRepeatedSubstring()
+  {
+    checkBuilt();
+
+    int best = root;
+    for (int node = 0; node < internalCount; node++)
+    {
+      if (depth[node] > depth[best]) best = node;
+    }
+
+    return pathOf(best);
+  }
+
+  /**
+   * builds one tree over a, a separator and b, an internal node whose leaves come from both
+   * spells a common substring, since the separator occurs once it is never on the path of an internal node
+   *
+   * @param a a text without $
+   * @param b a text without $
+   * @return the longest substring of both, empty if they have no char in common
+   */
+  public static char[] longestCommonSubstring(char[] a, char[] b)
+  {
+    boolean[] used = new boolean[Character.MAX_VALUE + 1];
+    for (char c : a)
+    {
+      used[c] = true;
+    }
+    for (char c : b)
+    {
+      used[c] = true;
+    }
+    if (used['$']) throw new IllegalArgumentException("The texts can not contain $");
+
+//    0 is taken too, getNextCharacter returns it for no char
+    char separator = 1;
+    while (used[separator] || separator == '$')
+    {
+      if (separator == Character.MAX_VALUE) throw new IllegalArgumentException("No char is left for a separator");
+      separator++;
+    }
+
+    char[] joined = new char[a.length + 1 + b.length];
+    System.arraycopy(a, 0, joined, 0, a.length);
+    joined[a.length] = separator;
+    System.arraycopy(b, 0, joined, a.length + 1, b.length);
+
+    SuffixTree tree = new SuffixTree(joined);
+    tree.buildSuffixTree();
+    return tree.deepestSharedNode(a.length);
+  }
+
+  /**
+   * @return the path of the deepest internal node with leaves on both sides of the separator
+   */
+  private char[] deepestSharedNode(int separatorIndex)
+  {
+//    a leaf range is contiguous, so prefix counts of the leaves before the separator answer it per node
+    int[] before = new int[leafOrder.length + 1];
+    for (int i = 0; i < leafOrder.length; i++)
+    {
+      before[i + 1] = before[i] + (leafOrder[i] < separatorIndex ? 1 : 0);
+    }
+
+    int best = root;
+    for (int node = 0; node < internalCount; node++)
+    {
+      if (depth[node] <= depth[best]) continue;
+
+//      the suffixes starting at the separator and at $ hang off the root, every other leaf not from a is from b
+      int fromA = before[firstLeaf[node] + leafCount[node]] - before[firstLeaf[node]];
+      if (fromA > 0 && fromA < leafCount[node]) best = node;
+    }
+
+    return pathOf(best);
+  }
+
+  /**
+   * walks the pattern down from the root, comparing every char once
+   *
+   * @return the node at or below the end of the pattern, NONE if the pattern does not occur
+   */
+  private int locate(char[] pattern)
+  {
+    checkBuilt();
+    if (pattern == null) return NONE;
+//    the empty pattern would end at the root, whose leaves include the $ suffix
+    if (pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    int node = root;
+    int i = 0;
+
+    while (i < pattern.length)
+    {
+      node = child(node, pattern[i]);
+      if (node == NONE) return NONE;
+
+      int last = end(node);
+      for (int j = edgeStart(node); j <= last && i < pattern.length; j++, i++)
+      {
+//        the $ at the end is not part of the text, no pattern can match it
+        if (input[j] != pattern[i] || j == input.length - 1) return NONE;
+      }
+    }
+
+    return node;
+  }
+
+  private char[] pathOf(int node)
+  {
+    if (node == root) return new char[0];
+
+    int from = leafOrder[firstLeaf[node]];
+    return Arrays.copyOfRange(input, from, from + depth[node]);
+  }
+
+  private void checkBuilt()
+  {
+    if (leafOrder == null) throw new IllegalStateException("buildSuffixTree has to be called first");
+  }
+
+  /**
+   * fills depth, leafCount, firstLeaf and leafOrder in one depth first pass with an explicit stack
+   * the children are visited in char order so the leaves come out in the order of their suffixes
+   */
+  private void annotate()
+  {
+    depth = new int[internalCount];
+    leafCount = new int[internalCount];
+    firstLeaf = new int[internalCount];
+    leafOrder = new int[leafTotal];
+
+    int[] parent = new int[internalCount];
+    int[] order = new int[internalCount];
+    int[] stack = new int[nodeCount()];
+    int top = 0, visited = 0, leaves = 0;
+
+    parent[root] = NONE;
+    stack[top++] = root;
+
+    while (top > 0)
+    {
+      int node = stack[--top];
+
+      if (isLeaf(node))
+      {
+        leafOrder[leaves++] = suffixIndex(node);
+        continue;
+      }
+
+      order[visited++] = node;
+      firstLeaf[node] = leaves;
+
+      if (node != root) depth[node] = depth[parent[node]] + ends[node] - start[node] + 1;
+
+//      pushed backwards so the smallest char comes off the stack first
+      int[] sorted = children(node);
+      for (int c = sorted.length - 1; c >= 0; c--)
+      {
+        if (isLeaf(sorted[c])) leafCount[node]++;
+        else parent[sorted[c]] = node;
+
+        stack[top++] = sorted[c];
+      }
+    }
+
+//    children come after their parent in the order, so going backwards sums up from the bottom
+    for (int k = visited - 1; k > 0; k--)
+    {
+      leafCount[parent[order[k]]] += leafCount[order[k]];
+    }
   }
 
   /**
@@ -64,9 +353,9 @@ public class SuffixTree
    */
   public void startPhase(int index)
   {
-    SuffixNode lastInternalNode = null;
+    int lastInternalNode = NONE;
 
-    end.end++;
+    end++;
     remaining++;
 
     while (remaining > 0)
@@ -74,24 +363,31 @@ public class SuffixTree
       if (activePoint.activeLength == 0)
       {
 //        Rule 3 Extension
-        if (activePoint.activeNode.children[input[index]] != null)
+        int child = child(activePoint.activeNode, input[index]);
+        if (child != NONE)
         {
-          activePoint.activeEdge = activePoint.activeNode.children[input[index]].start;
+          activePoint.activeEdge = edgeStart(child);
           activePoint.activeLength++;
 
-          System.out.println("Phase(" + input[index] + ") Rule 3 Extension - applied("
-              + activePoint.activeNode.start + ":" + input[index] + ")");
+          if (tracer != null)
+          {
+            tracer.trace("Phase(" + input[index] + ") Rule 3 Extension - applied("
+                + start[activePoint.activeNode] + ":" + input[index] + ")");
+          }
 
           break;
         }
         else
         {
 //          Rule 2 Extension
-          root.children[input[index]] = new SuffixNode(index, end);
+          addChild(root, newLeaf(index));
           remaining--;
 
-          System.out.println("Phase(" + input[index] + ") Rule 2 Extension - applied("
-              + activePoint.activeNode.start + ":" + input[index] + ")");
+          if (tracer != null)
+          {
+            tracer.trace("Phase(" + input[index] + ") Rule 2 Extension - applied("
+                + start[activePoint.activeNode] + ":" + input[index] + ")");
+          }
         }
       }
       else
@@ -103,16 +399,19 @@ public class SuffixTree
         {
           if (c == input[index])
           {
-            SuffixNode edge = selectEdge();
+            int edge = selectEdge();
             //          rule 3 extension
-            if (lastInternalNode != null)
+            if (lastInternalNode != NONE)
             {
-              lastInternalNode.suffixLink = edge;
+              suffixLink[lastInternalNode] = edge;
             }
 
-            System.out.println("Phase(" + input[index] + ") Rule 3 Extension - start("
-                + edge.start + ":" + input[edge.start]
-                + ") Next Char match: " + index + ":" + input[index] + "-" + c);
+            if (tracer != null)
+            {
+              tracer.trace("Phase(" + input[index] + ") Rule 3 Extension - start("
+                  + edgeStart(edge) + ":" + input[edgeStart(edge)]
+                  + ") Next Char match: " + index + ":" + input[index] + "-" + c);
+            }
 
             //          walk down the tree
             walkDown(index);
@@ -120,50 +419,51 @@ public class SuffixTree
           }
           else
           {
-            SuffixNode edge = selectEdge();
+            int edge = selectEdge();
             //          Rule 2 Extension -> create an internal node
             //          anana$ [1, 6]
-            int currentStart = edge.start;
-            //          change 1 to 4 -> na$ [4, 6]
-            edge.start += activePoint.activeLength;
+            int currentStart = edgeStart(edge);
 
-            //          create the new node from 1 to 3 [1, 3]
-            SuffixNode internalNode =
-                new SuffixNode(currentStart, new End(currentStart + activePoint.activeLength - 1));
+            //          create the new node from 1 to 3 [1, 3] and put it where the edge was
+            int internalNode = newInternalNode(currentStart, currentStart + activePoint.activeLength - 1);
+            replaceChild(activePoint.activeNode, edge, internalNode);
+
+            //          change 1 to 4 -> na$ [4, 6]
+            moveStart(edge, activePoint.activeLength);
 
             //          leaf node open end [6, 6] which is the $
-            SuffixNode leafNode = new SuffixNode(index, end);
+            int leafNode = newLeaf(index);
 
             //          go to the edge and add those 2 children
-            internalNode.children[input[edge.start]] = edge;
-            internalNode.children[input[leafNode.start]] = leafNode;
-            internalNode.index = -1;
+            addChild(internalNode, edge);
+            addChild(internalNode, leafNode);
 
-            activePoint.activeNode.children[input[internalNode.start]] = internalNode;
-
-            if (lastInternalNode != null)
+            if (lastInternalNode != NONE)
             {
-              lastInternalNode.suffixLink = internalNode;
+              suffixLink[lastInternalNode] = internalNode;
             }
 
             lastInternalNode = internalNode;
-            internalNode.suffixLink = root;
-
-            System.out.println("Phase(" + input[index] + ") Rule 2 Extension - changed node ("
-                + internalNode.start + "-" + internalNode.end.end + "):" + input[internalNode.start]);
-            System.out.println("Phase(" + input[index] + ") Rule 2 Extension --- children[edge] "
-                + edge.start + ":" + input[edge.start]);
-            System.out.println("Phase(" + input[index] + ") Rule 2 Extension --- children[leafNode] "
-                + leafNode.start + ":" + input[leafNode.start]);
+            suffixLink[internalNode] = root;
+
+            if (tracer != null)
+            {
+              tracer.trace("Phase(" + input[index] + ") Rule 2 Extension - changed node ("
+                  + start[internalNode] + "-" + end(internalNode) + "):" + input[start[internalNode]]);
+              tracer.trace("Phase(" + input[index] + ") Rule 2 Extension --- children[edge] "
+                  + edgeStart(edge) + ":" + input[edgeStart(edge)]);
+              tracer.trace("Phase(" + input[index] + ") Rule 2 Extension --- children[leafNode] "
+                  + edgeStart(leafNode) + ":" + input[edgeStart(leafNode)]);
+            }
           }
         }
         else
         {
-          SuffixNode edge = selectEdge();
-          edge.children[input[index]] = new SuffixNode(index, end);
-          if (lastInternalNode != null)
+          int edge = selectEdge();
+          addChild(edge, newLeaf(index));
+          if (lastInternalNode != NONE)
           {
-            lastInternalNode.suffixLink = edge;
+            suffixLink[lastInternalNode] = edge;
           }
           lastInternalNode = edge;
         }
@@ -172,7 +472,7 @@ public class SuffixTree
         {
           // if i am not on the root and next time if i am not on the root it means its internal node
           // so i will follow the suffix node
-          activePoint.activeNode = activePoint.activeNode.suffixLink;
+          activePoint.activeNode = suffixLink[activePoint.activeNode];
         }
         else
         {
@@ -192,35 +492,35 @@ public class SuffixTree
    */
   public char getNextCharacter(int index)
   {
-    SuffixNode edge = selectEdge();
-
-    if ((edgeSize(edge)) >= activePoint.activeLength)
+//    skips whole edges until the active length ends on the selected one
+    while (true)
     {
-//      we have enough characters
-      return input[edge.start + activePoint.activeLength];
-    }
-    else if (edgeSize(edge) + 1 == activePoint.activeLength)
-    {
-      if (edge.children[input[index]] != null)
+      int edge = selectEdge();
+
+      if ((edgeSize(edge)) >= activePoint.activeLength)
       {
-        return input[index];
+//        we have enough characters
+        return input[edgeStart(edge) + activePoint.activeLength];
       }
-    }
-    else
-    {
+      else if (edgeSize(edge) + 1 == activePoint.activeLength)
+      {
+        if (child(edge, input[index]) != NONE)
+        {
+          return input[index];
+        }
+
+        return 0; // 0 means null in ASCII Table
+      }
+
       activePoint.activeNode = edge;
       activePoint.activeEdge = activePoint.activeEdge + edgeSize(edge) + 1;
       activePoint.activeLength = activePoint.activeLength - edgeSize(edge) - 1;
-
-      return getNextCharacter(index);
     }
-
-    return 0; // 0 means null in ASCII Table
   }
 
-  public SuffixNode selectEdge()
+  public int selectEdge()
   {
-    return activePoint.activeNode.children[input[activePoint.activeEdge]];
+    return child(activePoint.activeNode, input[activePoint.activeEdge]);
   }
 
   /**
@@ -229,7 +529,7 @@ public class SuffixTree
    */
   public void walkDown(int index)
   {
-    SuffixNode edge = selectEdge();
+    int edge = selectEdge();
 
 //    activePoint.activeLength is the char i want to skip
     if (edgeSize(edge) < activePoint.activeLength)
@@ -237,7 +537,7 @@ public class SuffixTree
 //      i need to jump a node
       activePoint.activeNode = edge;
       activePoint.activeLength = activePoint.activeLength - edgeSize(edge);
-      activePoint.activeEdge = edge.children[input[index]].start;
+      activePoint.activeEdge = edgeStart(child(edge, input[index]));
     }
     else
     {
@@ -248,69 +548,241 @@ public class SuffixTree
 
   public void dfsTraversal()
   {
-    List<Character> result = new ArrayList<>();
-    for (SuffixNode node : root.children)
-    {
-      dfsTraversal(node, result);
-    }
+    dfsTraversal(SuffixTreeTracer.STDOUT);
   }
 
-
   /**
-   * this method will be overloaded because the user doesn't need to know the internals
-   * and about the recursion
-   *
-   * @param node
-   * @param result
+   * reports every suffix with its index, in the order of the tree
+   * depth first with an explicit stack, every node remembers how long the path of its parent is
    */
-  private void dfsTraversal(SuffixNode node, List<Character> result)
+  public void dfsTraversal(SuffixTreeTracer out)
   {
-    if (node == null) return;
+    int[] nodes = new int[nodeCount()];
+    int[] pathLengths = new int[nodeCount()];
+    int top = push(children(root), 0, nodes, pathLengths, 0);
 
-    int end = node.end.end;
-    if (node.index != -1)
+//    the chars on the path down to the node
+    StringBuilder result = new StringBuilder();
+
+    while (top > 0)
     {
-//      so it is not an internal node
-      for (int i = node.start; i <= end; i++)
-      {
-        result.add(input[i]);
-      }
+      int node = nodes[--top];
+      result.setLength(pathLengths[top]);
+      result.append(input, edgeStart(node), end(node) - edgeStart(node) + 1);
 
-      for (Character character : result)
+      if (isLeaf(node))
       {
-        System.out.println(character);
+//        so it is not an internal node
+        out.trace(result + " index = " + suffixIndex(node));
       }
-      System.out.println("index = " + node.index);
-
-      for (int i = node.start; i <= end; i++)
+      else
       {
-        result.remove(result.size() - 1);
+//        it is an internal node
+        top = push(children(node), result.length(), nodes, pathLengths, top);
       }
     }
-    else
+  }
+
+  /**
+   * pushes the nodes backwards so the first of them comes off the stack first
+   *
+   * @return the new top of the stack
+   */
+  private static int push(int[] children, int pathLength, int[] nodes, int[] pathLengths, int top)
+  {
+    for (int c = children.length - 1; c >= 0; c--)
     {
-//      it is an internal node
-      for (int i = node.start; i <= end; i++)
-      {
-        result.add(input[i]);
-      }
+      nodes[top] = children[c];
+      pathLengths[top++] = pathLength;
+    }
+    return top;
+  }
 
-      for (SuffixNode s : node.children)
-      {
-        dfsTraversal(s, result);
-      }
+  /**
+   * @param tracer receives every extension of the next build, null to build quietly
+   */
+  public void setTracer(SuffixTreeTracer tracer)
+  {
+    this.tracer = tracer;
+  }
+
+  public int edgeSize(int edge)
+  {
+    return end(edge) - edgeStart(edge);
+  }
+
+  /**
+   * @return number of nodes including the root
+   */
+  public int nodeCount()
+  {
+    return internalCount + leafTotal;
+  }
+
+  int edgeStart(int node)
+  {
+    return isLeaf(node) ? leafStart[-2 - node] : start[node];
+  }
+
+  /**
+   * @return index of the last char on the edge into the node, a leaf grows with the global end
+   */
+  int end(int node)
+  {
+    return isLeaf(node) ? end : ends[node];
+  }
+
+  /**
+   * @return the start of the suffix a leaf ends, -1 for the root and the internal nodes
+   */
+  int suffixIndex(int node)
+  {
+    return isLeaf(node) ? -2 - node : -1;
+  }
+
+  private static boolean isLeaf(int node)
+  {
+    return node < NONE;
+  }
 
-      for (int i = node.start; i <= end; i++)
+  /**
+   * @return the child of the node whose edge starts with c, NONE if there is none
+   */
+  int child(int node, char c)
+  {
+    return children.get(key(node, c), NONE);
+  }
+
+  /**
+   * @return the children of the node ordered by the first char of their edge
+   */
+  int[] children(int node)
+  {
+    if (isLeaf(node)) return new int[0];
+
+    int count = 0;
+    for (int c = firstChild[node]; c != NONE; c = next(c))
+    {
+      count++;
+    }
+
+    int[] result = new int[count];
+    int i = 0;
+    for (int c = firstChild[node]; c != NONE; c = next(c))
+    {
+      result[i++] = c;
+    }
+
+//    at most one child per char, so a small insertion sort
+    for (int j = 1; j < result.length; j++)
+    {
+      int child = result[j];
+      int k = j - 1;
+      while (k >= 0 && input[edgeStart(result[k])] > input[edgeStart(child)])
       {
-        result.remove(result.size() - 1);
+        result[k + 1] = result[k];
+        k--;
       }
+      result[k + 1] = child;
+    }
+
+    return result;
+  }
 
+  private int newInternalNode(int start, int end)
+  {
+    if (internalCount == this.start.length)
+    {
+      int capacity = internalCount + (internalCount >> 1) + 1;
+      this.start = Arrays.copyOf(this.start, capacity);
+      ends = Arrays.copyOf(ends, capacity);
+      suffixLink = Arrays.copyOf(suffixLink, capacity);
+      firstChild = Arrays.copyOf(firstChild, capacity);
+      nextSibling = Arrays.copyOf(nextSibling, capacity);
     }
+
+    int node = internalCount++;
+    this.start[node] = start;
+    ends[node] = end;
+    suffixLink[node] = NONE;
+    firstChild[node] = NONE;
+    nextSibling[node] = NONE;
+    return node;
+  }
+
+  /**
+   * @return the leaf of the next suffix, its edge starts at start and ends at the global end
+   */
+  private int newLeaf(int start)
+  {
+    int leaf = leafTotal++;
+    leafStart[leaf] = start;
+    leafNext[leaf] = NONE;
+    return -2 - leaf;
+  }
+
+  /**
+   * the arrays to their used length, the suffix links are only needed while building
+   */
+  private void trim()
+  {
+    start = Arrays.copyOf(start, internalCount);
+    ends = Arrays.copyOf(ends, internalCount);
+    firstChild = Arrays.copyOf(firstChild, internalCount);
+    nextSibling = Arrays.copyOf(nextSibling, internalCount);
+    suffixLink = null;
+    children.trimToSize();
   }
 
-  public int edgeSize(SuffixNode edge)
+  private void moveStart(int node, int delta)
   {
-    return edge.end.end - edge.start;
+    if (isLeaf(node)) leafStart[-2 - node] += delta;
+    else start[node] += delta;
+  }
+
+  private int next(int node)
+  {
+    return isLeaf(node) ? leafNext[-2 - node] : nextSibling[node];
+  }
+
+  private void setNext(int node, int sibling)
+  {
+    if (isLeaf(node)) leafNext[-2 - node] = sibling;
+    else nextSibling[node] = sibling;
+  }
+
+  private void addChild(int parent, int child)
+  {
+    children.put(key(parent, input[edgeStart(child)]), child);
+    setNext(child, firstChild[parent]);
+    firstChild[parent] = child;
+  }
+
+  /**
+   * puts the new child in the place of the old one, both edges start with the same char
+   */
+  private void replaceChild(int parent, int oldChild, int newChild)
+  {
+    children.put(key(parent, input[edgeStart(oldChild)]), newChild);
+    setNext(newChild, next(oldChild));
+
+    if (firstChild[parent] == oldChild)
+    {
+      firstChild[parent] = newChild;
+      return;
+    }
+
+    int previous = firstChild[parent];
+    while (next(previous) != oldChild)
+    {
+      previous = next(previous);
+    }
+    setNext(previous, newChild);
+  }
+
+  private static long key(int node, char c)
+  {
+    return (long) node << 16 | c;
   }
 
   private char[] addUnique(char[] input)
@@ -326,22 +798,40 @@ public class SuffixTree
     return input;
   }
 
-  private void setIndex(SuffixNode root, int val, int size)
+  /**
+   * the tree with the children of every node in char order
+   */
+  @Override
+  public String toString()
   {
-    if (root == null) return;
+    return start == null ? "SuffixTree []" : toString(root);
+  }
 
-    val = val + root.end.end - root.start + 1;
+  /**
+   * every node as SuffixNode [start, end] followed by first char->node for each of its children,
+   * written depth first with an explicit stack into one builder
+   */
+  private String toString(int node)
+  {
+    StringBuilder sb = new StringBuilder();
+    int[] stack = new int[nodeCount()];
+    int top = 0;
 
-    if (root.index != -1)
-    {
-      root.index = size - val;
-    }
-    else
+    stack[top++] = node;
+    while (top > 0)
     {
-      for (SuffixNode node : root.children)
+      int current = stack[--top];
+      if (current != node) sb.append(input[edgeStart(current)]).append("->");
+
+      sb.append("SuffixNode [start=").append(edgeStart(current)).append(", end=").append(end(current)).append("] ");
+
+      int[] sorted = children(current);
+      for (int c = sorted.length - 1; c >= 0; c--)
       {
-        setIndex(node, val, size);
+        stack[top++] = sorted[c];
       }
     }
+
+    return sb.toString();
   }
 }
@@ -0,0 +1,15 @@
+package org.aybarsacar.advancedAlgorithms.suffixtree;
+
+/**
+ * Receives a line for every extension Ukkonen's algorithm applies while a SuffixTree is built
+ * <p>
+ * a tree has no tracer by default, the messages are only put together when one is set
+ */
+@FunctionalInterface
+public interface SuffixTreeTracer
+{
+  //  the output the tree used to print on every build
+  SuffixTreeTracer STDOUT = System.out::println;
+
+  void trace(String message);
+}
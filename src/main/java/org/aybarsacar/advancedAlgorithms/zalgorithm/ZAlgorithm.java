@@ -1,9 +1,16 @@
 package org.aybarsacar.advancedAlgorithms.zalgorithm;
 
+import java.util.stream.IntStream;
+
 /**
  * Z Algorithm
  * this algorithm uses a table to help improve the search performance -> Z Table
- * this implementation assumes the array and the pattern do not contain $
+ * <p>
+ * search and searchAll only build the Z array of the pattern and compute the values for the text on the fly,
+ * see ZAlgorithmPattern, so the text is not copied and may contain any char
+ * createZTable still builds the classic table over pattern + $ + array and assumes neither of them contains $
+ * <p>
+ * zArray, borderTable, period and borders are the building blocks on their own for other string problems
  */
 public class ZAlgorithm
 {
@@ -14,19 +21,25 @@ public class ZAlgorithm
     if ((pattern == null || pattern.length == 0) && array != null) return 0;
     if (array == null) return -1;
 
-    int[] z = createZTable(pattern, array);
+    return compile(pattern).find(array);
+  }
 
-    int i = pattern.length + 1;
-    while (i < z.length)
-    {
-      if (z[i] == pattern.length)
-      {
-        return i - pattern.length - 1;
-      }
-      i++;
-    }
+  /**
+   * @param pattern at least one char
+   * @return an immutable matcher for the pattern
+   */
+  public static ZAlgorithmPattern compile(char[] pattern)
+  {
+    return new ZAlgorithmPattern(pattern);
+  }
 
-    return -1;
+  /**
+   * @param pattern at least one byte
+   * @return an immutable matcher for ByteBuffers and memory mapped files
+   */
+  public static ZAlgorithmBytePattern compile(byte[] pattern)
+  {
+    return new ZAlgorithmBytePattern(pattern);
   }
 
   /**
@@ -41,20 +54,163 @@ public class ZAlgorithm
   public int[] searchAll(char[] pattern, char[] array)
   {
     int[] result = new int[array.length];
+    if (pattern == null || pattern.length == 0) return result;
 
-    int[] z = createZTable(pattern, array);
+    compile(pattern).findAll(array, i -> result[i] = pattern.length);
+
+    return result;
+  }
 
-    int i = pattern.length + 1;
-    while (i < z.length)
+  /**
+   * z[i] is the length of the longest common prefix of s and s from i, z[0] is the length of s
+   * <p>
+   * [left, right) is the rightmost window found so far that equals a prefix of s,
+   * inside it the value is copied from the prefix and only the part past right is compared, so it runs in O(n)
+   */
+  public static int[] zArray(char[] s)
+  {
+    int[] z = new int[s.length];
+    if (s.length == 0) return z;
+
+    z[0] = s.length;
+    for (int i = 1, left = 0, right = 0; i < s.length; i++)
     {
-      if (z[i] == pattern.length)
+      int length = i < right ? Math.min(z[i - left], right - i) : 0;
+
+      while (i + length < s.length && s[length] == s[i + length])
       {
-        result[i - pattern.length - 1] = z[i];
+        length++;
       }
-      i++;
+
+      if (i + length > right)
+      {
+        left = i;
+        right = i + length;
+      }
+
+      z[i] = length;
     }
 
-    return result;
+    return z;
+  }
+
+  /**
+   * the Z values of the text against the pattern without concatenating them
+   *
+   * @param z zArray of the pattern
+   * @return for every index of the text the length of the longest common prefix of the pattern and the text from there
+   */
+  public static int[] matchLengths(char[] pattern, int[] z, char[] text)
+  {
+    int[] lengths = new int[text.length];
+    scan(pattern, z, text, 0, text.length, new int[2], lengths);
+
+    return lengths;
+  }
+
+  /**
+   * computes the Z values of a text against a pattern on the fly, the one loop behind matchLengths and ZAlgorithmPattern
+   * <p>
+   * [left, right) is the rightmost window of the text known to equal the start of the pattern,
+   * inside it a Z value is read from the pattern and only the part past right is compared
+   * so every char of the text is compared a constant number of times
+   *
+   * @param z       zArray of the pattern
+   * @param from    first index of the text to compute
+   * @param to      one past the last index to compute
+   * @param window  left and right, carried from one call to the next, both 0 to start
+   * @param lengths receives every Z value when not null, otherwise the scan stops at the first match
+   * @return the first index where the whole pattern matches, -1 if there is none or the values are collected
+   */
+  static int scan(char[] pattern, int[] z, char[] text, int from, int to, int[] window, int[] lengths)
+  {
+    int m = pattern.length;
+    int left = window[0], right = window[1];
+
+    for (int i = from; i < to; i++)
+    {
+      int length = i < right ? Math.min(z[i - left], right - i) : 0;
+
+//      past right nothing is known yet, compare
+      if (i + length >= right)
+      {
+        while (length < m && i + length < text.length && text[i + length] == pattern[length])
+        {
+          length++;
+        }
+
+        left = i;
+        right = i + length;
+      }
+
+      if (lengths != null)
+      {
+        lengths[i] = length;
+      }
+      else if (length == m)
+      {
+        window[0] = left;
+        window[1] = right;
+        return i;
+      }
+    }
+
+    window[0] = left;
+    window[1] = right;
+    return -1;
+  }
+
+  /**
+   * turns a Z array into the Longest Suffix Prefix table of KMP
+   * <p>
+   * a Z value at i says s from i to i + z[i] - 1 is a border of that prefix, going left to right
+   * the first Z value to reach a position is the longest border, later ones are skipped
+   *
+   * @return table[i] is the length of the longest proper border of s[0..i]
+   */
+  public static int[] borderTable(int[] z)
+  {
+    int[] table = new int[z.length];
+
+    for (int i = 1; i < z.length; i++)
+    {
+      for (int j = z[i] - 1; j >= 0 && table[i + j] == 0; j--)
+      {
+        table[i + j] = j + 1;
+      }
+    }
+
+    return table;
+  }
+
+  /**
+   * @return the smallest p so that s[i] == s[i + p] for every i, the length of s if there is none smaller
+   */
+  public static int period(char[] s)
+  {
+    int[] z = zArray(s);
+
+    for (int p = 1; p < s.length; p++)
+    {
+      if (p + z[p] == s.length) return p;
+    }
+
+    return s.length;
+  }
+
+  /**
+   * a border is a proper prefix that is also a suffix, abcab has ab
+   *
+   * @return length of every non empty border of s, longest first
+   */
+  public static int[] borders(char[] s)
+  {
+    int[] z = zArray(s);
+
+    return IntStream.range(1, s.length)
+        .filter(p -> p + z[p] == s.length)
+        .map(p -> s.length - p)
+        .toArray();
   }
 
   /**
@@ -0,0 +1,62 @@
+package org.aybarsacar.advancedAlgorithms.zalgorithm;
+
+import org.aybarsacar.advancedAlgorithms.matcher.ByteMatcher;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The Z algorithm over bytes without concatenating the pattern and the text
+ * <p>
+ * only the Z array of the pattern is stored, the Z values of the text are computed on the fly
+ * with the same window as ZAlgorithm.scan in a loop of its own, where reading the buffer is a direct call,
+ * so every byte of the text is compared a constant number of times
+ */
+public final class ZAlgorithmBytePattern implements ByteMatcher
+{
+  private final byte[] pattern;
+  private final int[] z;
+
+  ZAlgorithmBytePattern(byte[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+    this.z = ZAlgorithm.zArray(ByteMatcher.unsigned(this.pattern));
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  @Override
+  public int find(ByteBuffer text, int from)
+  {
+    if (text == null) return -1;
+
+    int m = pattern.length;
+    int limit = text.limit();
+    int left = 0, right = 0;
+
+    for (int i = Math.max(from, 0); i <= limit - m; i++)
+    {
+      int length = i < right ? Math.min(z[i - left], right - i) : 0;
+
+      if (i + length >= right)
+      {
+        while (length < m && i + length < limit && text.get(i + length) == pattern[length])
+        {
+          length++;
+        }
+
+        left = i;
+        right = i + length;
+      }
+
+      if (length == m) return i;
+    }
+
+    return -1;
+  }
+}
@@ -0,0 +1,102 @@
+package org.aybarsacar.advancedAlgorithms.zalgorithm;
+
+import org.aybarsacar.advancedAlgorithms.matcher.MatchStream;
+import org.aybarsacar.advancedAlgorithms.matcher.Matcher;
+
+import java.nio.CharBuffer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+
+/**
+ * The Z algorithm behind the Matcher interface
+ * only the Z array of the pattern is kept, the Z values of the text are computed on the fly by
+ * ZAlgorithm.scan, so the text is never copied and no char is reserved as a separator
+ * <p>
+ * a Z value can look ahead of the position it belongs to, which a stream can not do,
+ * so stream runs on the border table derived from the same Z array and carries one int across chunks
+ */
+public final class ZAlgorithmPattern implements Matcher
+{
+  private final char[] pattern;
+  private final int[] z;
+  private final int[] borders;
+
+  ZAlgorithmPattern(char[] pattern)
+  {
+    if (pattern == null || pattern.length == 0) throw new IllegalArgumentException("The pattern can not be empty");
+
+    this.pattern = pattern.clone();
+    this.z = ZAlgorithm.zArray(this.pattern);
+    this.borders = ZAlgorithm.borderTable(z);
+  }
+
+  @Override
+  public int length()
+  {
+    return pattern.length;
+  }
+
+  @Override
+  public int find(char[] text, int from, int to)
+  {
+    if (text == null) return -1;
+
+    return ZAlgorithm.scan(pattern, z, text, Math.max(from, 0), Math.min(to, text.length) - pattern.length + 1,
+        new int[2], null);
+  }
+
+  @Override
+  public void findAll(char[] text, IntConsumer listener)
+  {
+    if (text == null) return;
+
+//    the window carries over from one match to the next
+    int[] window = new int[2];
+    int to = text.length - pattern.length + 1;
+
+    for (int i = ZAlgorithm.scan(pattern, z, text, 0, to, window, null); i >= 0;
+         i = ZAlgorithm.scan(pattern, z, text, i + 1, to, window, null))
+    {
+      listener.accept(i);
+    }
+  }
+
+  @Override
+  public MatchStream stream(LongConsumer listener)
+  {
+    return new MatchStream()
+    {
+      //  number of pattern chars matched by the end of the stream so far
+      private int j;
+      private long position;
+
+      @Override
+      public void feed(CharBuffer chunk)
+      {
+        while (chunk.hasRemaining())
+        {
+          char c = chunk.get();
+          position++;
+
+          while (j > 0 && c != pattern[j])
+          {
+            j = borders[j - 1];
+          }
+          if (c == pattern[j]) j++;
+
+          if (j == pattern.length)
+          {
+            listener.accept(position - j);
+            j = borders[j - 1];
+          }
+        }
+      }
+
+      @Override
+      public long position()
+      {
+        return position;
+      }
+    };
+  }
+}
@@ -0,0 +1,127 @@
+package org.aybarsacar.advancedAlgorithms.ahocorasick;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class AhoCorasickTest
+{
+  AhoCorasick ac;
+
+  @BeforeEach
+  public void init()
+  {
+    ac = new AhoCorasick();
+    ac.insert("he".toCharArray(), 1);
+    ac.insert("she".toCharArray(), 2);
+    ac.insert("his".toCharArray(), 3);
+    ac.insert("hers".toCharArray(), 4);
+  }
+
+  @Test
+  public void searchTest()
+  {
+//    ushers -> she at 1, he at 2, hers at 2
+    Assertions.assertEquals("[2@1, 1@2, 4@2]", matches(ac, "ushers"));
+    Assertions.assertEquals("[3@1, 2@3, 1@4]", matches(ac, "ahishe"));
+    Assertions.assertEquals("[]", matches(ac, "nothing to see"));
+  }
+
+  @Test
+  public void failureLinksTest()
+  {
+    ac.build();
+
+    AhoCorasickNode she = ac.root.getChildren('s').getChildren('h').getChildren('e');
+    AhoCorasickNode he = ac.root.getChildren('h').getChildren('e');
+
+    Assertions.assertSame(he, she.fail);
+    Assertions.assertSame(he, she.output);
+    Assertions.assertSame(ac.root, he.fail);
+    Assertions.assertEquals(10, ac.size());
+  }
+
+  @Test
+  public void overlappingTest()
+  {
+    AhoCorasick a = new AhoCorasick();
+    a.insert("aa".toCharArray(), 1);
+    a.insert("a".toCharArray(), 2);
+    a.insert("\u4e2d\u6587".toCharArray(), 3);
+
+    Assertions.assertEquals("[2@0, 1@0, 2@1, 1@1, 2@2, 3@4]", matches(a, "aaab\u4e2d\u6587"));
+  }
+
+  @Test
+  public void insertAfterSearchTest()
+  {
+    Assertions.assertFalse(ac.containsAny("abc".toCharArray()));
+
+    ac.insert("bc".toCharArray(), -7);
+
+    Assertions.assertTrue(ac.containsAny("abc".toCharArray()));
+    Assertions.assertEquals("[-7@1]", matches(ac, "abc"));
+  }
+
+  @Test
+  public void manyPatternsTest()
+  {
+//    every match of every pattern in one pass, checked against a search per pattern
+    Random random = new Random(3);
+    char[] text = randomText(random, 20_000);
+
+    AhoCorasick a = new AhoCorasick();
+    List<String> words = new ArrayList<>();
+    for (int i = 0; i < 500; i++)
+    {
+      char[] word = randomText(random, 1 + random.nextInt(6));
+      words.add(new String(word));
+      a.insert(word, i);
+    }
+
+    int[] counts = new int[words.size()];
+    a.search(text, (id, start) -> {
+      counts[id]++;
+      Assertions.assertEquals(words.get(id), new String(text, start, words.get(id).length()));
+    });
+
+    for (int i = 0; i < words.size(); i++)
+    {
+//      a word inserted twice only keeps its last id
+      int expected = words.lastIndexOf(words.get(i)) == i ? count(text, words.get(i)) : 0;
+      Assertions.assertEquals(expected, counts[i], words.get(i));
+    }
+  }
+
+  private static char[] randomText(Random random, int length)
+  {
+    char[] text = new char[length];
+    for (int i = 0; i < length; i++)
+    {
+      text[i] = (char) ('a' + random.nextInt(4));
+    }
+    return text;
+  }
+
+  private static int count(char[] text, String word)
+  {
+    String s = new String(text);
+    int count = 0;
+    for (int i = s.indexOf(word); i >= 0; i = s.indexOf(word, i + 1))
+    {
+      count++;
+    }
+    return count;
+  }
+
+  private static String matches(AhoCorasick a, String text)
+  {
+    List<String> found = new ArrayList<>();
+    a.search(text.toCharArray(), (id, start) -> found.add(id + "@" + start));
+    return found.toString();
+  }
+}
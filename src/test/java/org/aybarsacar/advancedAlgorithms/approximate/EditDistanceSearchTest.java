@@ -0,0 +1,87 @@
+package org.aybarsacar.advancedAlgorithms.approximate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class EditDistanceSearchTest
+{
+  @Test
+  public void searchTest()
+  {
+    EditDistanceSearch e = new EditDistanceSearch(1);
+
+//    "conection" is one deletion away from "connection"
+    char[] log = "error: conection refused".toCharArray();
+    Assertions.assertEquals(15, e.search(log, "connection".toCharArray()));
+    Assertions.assertEquals(-1, new EditDistanceSearch(0).search(log, "connection".toCharArray()));
+    Assertions.assertEquals(-1, e.search(null, "connection".toCharArray()));
+
+    Assertions.assertArrayEquals(new int[]{1, 2, 3}, e.searchAll("xabx".toCharArray(), "ab".toCharArray()));
+  }
+
+  @Test
+  public void distancesTest()
+  {
+    int[] distances = new EditDistanceSearch(2).distances("xabcx".toCharArray(), "abc".toCharArray());
+
+    Assertions.assertArrayEquals(new int[]{3, 2, 1, 0, 1}, distances);
+  }
+
+  @Test
+  public void matchesDynamicProgrammingTest()
+  {
+    Random random = new Random(23);
+    for (int round = 0; round < 300; round++)
+    {
+      char[] text = HammingSearchTest.randomText(random, random.nextInt(100));
+      char[] pattern = HammingSearchTest.randomText(random, 1 + random.nextInt(random.nextBoolean() ? 8 : 64));
+      int k = random.nextInt(4);
+
+      int[] best = bestDistances(text, pattern);
+      int[] expected = IntStream.range(0, text.length).filter(i -> best[i] <= k).toArray();
+
+      Assertions.assertArrayEquals(expected, new EditDistanceSearch(k).searchAll(text, pattern));
+    }
+  }
+
+  @Test
+  public void invalidTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new EditDistanceSearch(-1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new EditDistanceSearch(1).search("a".toCharArray(), new char[65]));
+  }
+
+  /**
+   * Sellers' table, the first row is all 0 so a match may start anywhere
+   */
+  private static int[] bestDistances(char[] text, char[] pattern)
+  {
+    int m = pattern.length;
+    int[] column = new int[m + 1];
+    for (int j = 0; j <= m; j++)
+    {
+      column[j] = j;
+    }
+
+    int[] best = new int[text.length];
+    for (int i = 0; i < text.length; i++)
+    {
+      int diagonal = column[0];
+      column[0] = 0;
+
+      for (int j = 1; j <= m; j++)
+      {
+        int up = column[j];
+        column[j] = Math.min(Math.min(up + 1, column[j - 1] + 1), diagonal + (pattern[j - 1] == text[i] ? 0 : 1));
+        diagonal = up;
+      }
+
+      best[i] = column[m];
+    }
+
+    return best;
+  }
+}
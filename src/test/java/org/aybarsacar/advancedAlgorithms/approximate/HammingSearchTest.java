@@ -0,0 +1,71 @@
+package org.aybarsacar.advancedAlgorithms.approximate;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.stream.IntStream;
+
+public class HammingSearchTest
+{
+  @Test
+  public void searchTest()
+  {
+    HammingSearch h = new HammingSearch(1);
+
+    Assertions.assertEquals(2, h.search("a cat cut".toCharArray(), "cot".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{2, 6}, h.searchAll("a cat cut".toCharArray(), "cot".toCharArray()));
+    Assertions.assertEquals(-1, h.search("a dog".toCharArray(), "cot".toCharArray()));
+    Assertions.assertEquals(-1, h.search(null, "cot".toCharArray()));
+    Assertions.assertEquals(0, h.search("abc".toCharArray(), new char[0]));
+
+//    exact search with k = 0
+    Assertions.assertEquals(6, new HammingSearch(0).search("a cat sat".toCharArray(), "sat".toCharArray()));
+  }
+
+  @Test
+  public void matchesBruteForceTest()
+  {
+    Random random = new Random(19);
+    for (int round = 0; round < 300; round++)
+    {
+      char[] text = randomText(random, random.nextInt(100));
+      char[] pattern = randomText(random, 1 + random.nextInt(random.nextBoolean() ? 8 : 64));
+      int k = random.nextInt(4);
+
+      int[] expected = IntStream.rangeClosed(0, text.length - pattern.length)
+          .filter(i -> mismatches(text, i, pattern) <= k)
+          .toArray();
+
+      Assertions.assertArrayEquals(expected, new HammingSearch(k).searchAll(text, pattern));
+    }
+  }
+
+  @Test
+  public void invalidTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new HammingSearch(-1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new HammingSearch(1).search("a".toCharArray(), new char[65]));
+  }
+
+  private static int mismatches(char[] text, int start, char[] pattern)
+  {
+    int count = 0;
+    for (int j = 0; j < pattern.length; j++)
+    {
+      if (text[start + j] != pattern[j]) count++;
+    }
+    return count;
+  }
+
+  static char[] randomText(Random random, int length)
+  {
+    char[] text = new char[length];
+    for (int i = 0; i < length; i++)
+    {
+//      a wide char now and then goes through the list of the masks
+      text[i] = random.nextInt(20) == 0 ? '\u4e2d' : (char) ('a' + random.nextInt(3));
+    }
+    return text;
+  }
+}
@@ -0,0 +1,77 @@
+package org.aybarsacar.advancedAlgorithms.boyermoore;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+public class BoyerMooreHorspoolPatternTest
+{
+  @Test
+  public void reuseTest()
+  {
+    BoyerMooreHorspoolPattern pattern = BoyerMooreHorspool.compile("test".toCharArray());
+
+    Assertions.assertEquals(14, pattern.search("thisisthefirsttest".toCharArray()));
+    Assertions.assertEquals(-1, pattern.search("aldglsw".toCharArray()));
+    Assertions.assertEquals(0, pattern.search("test".toCharArray()));
+    Assertions.assertEquals(-1, pattern.search(null));
+    Assertions.assertEquals(4, pattern.length());
+  }
+
+  @Test
+  public void searchFromTest()
+  {
+    BoyerMooreHorspoolPattern pattern = BoyerMooreHorspool.compile("aba".toCharArray());
+    char[] text = "abababa".toCharArray();
+
+    Assertions.assertEquals(0, pattern.search(text, 0));
+    Assertions.assertEquals(2, pattern.search(text, 1));
+    Assertions.assertEquals(4, pattern.search(text, 3));
+    Assertions.assertEquals(-1, pattern.search(text, 5));
+  }
+
+  @Test
+  public void wideCharsTest()
+  {
+//    chars past the 256 entry table share one slot
+    BoyerMooreHorspoolPattern pattern = BoyerMooreHorspool.compile("\u4e2d\u6587a\u4e2d".toCharArray());
+
+    Assertions.assertEquals(5, pattern.search("\u6587\u4e2d\u4e2d\u4e2d\u6587\u4e2d\u6587a\u4e2d".toCharArray()));
+    Assertions.assertEquals(-1, pattern.search("\u4e2d\u6587b\u4e2d\u0100".toCharArray()));
+  }
+
+  @Test
+  public void matchesIndexOfTest()
+  {
+    Random random = new Random(11);
+    for (int round = 0; round < 200; round++)
+    {
+      String text = randomText(random, 200);
+      String word = randomText(random, 1 + random.nextInt(5));
+      BoyerMooreHorspoolPattern pattern = BoyerMooreHorspool.compile(word.toCharArray());
+
+      for (int from = 0; from < text.length(); from += 37)
+      {
+        Assertions.assertEquals(text.indexOf(word, from), pattern.search(text.toCharArray(), from), word + " in " + text);
+      }
+    }
+  }
+
+  @Test
+  public void emptyPatternTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> BoyerMooreHorspool.compile(new char[0]));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> BoyerMooreHorspool.compile(null));
+  }
+
+  private static String randomText(Random random, int length)
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < length; i++)
+    {
+      s.append((char) ('a' + random.nextInt(3)));
+    }
+    return s.toString();
+  }
+}
@@ -25,6 +25,14 @@ public class BoyerMooreHorspoolTest
     Assertions.assertEquals(-1, b.search(null, "nin".toCharArray()));
   }
 
+  @Test
+  public void partialMatchTest()
+  {
+//    shifting by the mismatched char after a partial match used to move the window back forever
+    Assertions.assertEquals(-1, b.search("bba".toCharArray(), "aba".toCharArray()));
+    Assertions.assertEquals(3, b.search("bbaaba".toCharArray(), "aba".toCharArray()));
+  }
+
   @Test
   public void preprocessTableTest()
   {
@@ -0,0 +1,136 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class AdaptiveHuffmanStreamTest
+{
+  @Test
+  public void roundTripTest() throws IOException
+  {
+    byte[] text = "aabbbcd - adaptive codes need no header".getBytes(StandardCharsets.UTF_8);
+
+    Assertions.assertArrayEquals(text, decompress(compress(text)));
+  }
+
+  @Test
+  public void compressedIsSmallerTest() throws IOException
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 100; i++)
+    {
+      s.append("This is a test of disk space used saving as String");
+    }
+    byte[] text = s.toString().getBytes(StandardCharsets.UTF_8);
+
+    byte[] compressed = compress(text);
+
+    Assertions.assertTrue(compressed.length < text.length * 6 / 10);
+    Assertions.assertArrayEquals(text, decompress(compressed));
+  }
+
+  @Test
+  public void allByteValuesTest() throws IOException
+  {
+//    every symbol gets escaped once and the tree keeps reshaping as the distribution drifts
+    Random random = new Random(42);
+    byte[] data = new byte[200_000];
+    for (int i = 0; i < data.length; i++)
+    {
+      data[i] = (byte) (i < 100_000 ? random.nextGaussian() * 20 : random.nextInt(256));
+    }
+
+    Assertions.assertArrayEquals(data, decompress(compress(data)));
+  }
+
+  @Test
+  public void emptyStreamTest() throws IOException
+  {
+    byte[] compressed = compress(new byte[0]);
+
+//    the EOF escape alone: no code bits for the NYT root and 9 raw bits
+    Assertions.assertEquals(2, compressed.length);
+    Assertions.assertArrayEquals(new byte[0], decompress(compressed));
+  }
+
+  @Test
+  public void flushTest() throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    AdaptiveHuffmanOutputStream out = new AdaptiveHuffmanOutputStream(bytes);
+
+    out.write("first".getBytes(StandardCharsets.UTF_8));
+    out.flush();
+
+//    a live stream that has nothing more to give, the reader must not ask it for more
+    byte[] sent = bytes.toByteArray();
+    InputStream live = new ByteArrayInputStream(sent)
+    {
+      @Override
+      public synchronized int read(byte[] b, int off, int len)
+      {
+        if (available() == 0) throw new IllegalStateException("Reader blocked on data it does not need");
+        return super.read(b, off, len);
+      }
+    };
+
+    InputStream in = new AdaptiveHuffmanInputStream(live);
+    byte[] buffer = new byte[100];
+    int read = in.read(buffer);
+
+    Assertions.assertEquals("first", new String(buffer, 0, read, StandardCharsets.UTF_8));
+
+    out.write("second".getBytes(StandardCharsets.UTF_8));
+    out.close();
+
+    Assertions.assertEquals("firstsecond", new String(decompress(bytes.toByteArray()), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void singleByteReadsTest() throws IOException
+  {
+    byte[] data = "mississippi".getBytes(StandardCharsets.UTF_8);
+
+    InputStream in = new AdaptiveHuffmanInputStream(new ByteArrayInputStream(compress(data)));
+    for (byte b : data)
+    {
+      Assertions.assertEquals(b & 0xFF, in.read());
+    }
+    Assertions.assertEquals(-1, in.read());
+  }
+
+  private byte[] compress(byte[] data) throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new AdaptiveHuffmanOutputStream(bytes))
+    {
+      for (int i = 0; i < data.length; i += 777)
+      {
+        out.write(data, i, Math.min(777, data.length - i));
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private byte[] decompress(byte[] compressed) throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (InputStream in = new AdaptiveHuffmanInputStream(new ByteArrayInputStream(compressed)))
+    {
+      byte[] buffer = new byte[1000];
+      for (int read; (read = in.read(buffer)) != -1; )
+      {
+        bytes.write(buffer, 0, read);
+      }
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -0,0 +1,125 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CanonicalHuffmanTest
+{
+  @Test
+  public void canonicalCodesTest()
+  {
+//    a=2, b=1, c=3, d=3 -> b=0, a=10, c=110, d=111
+    int[] lengths = new int[256];
+    lengths['a'] = 2;
+    lengths['b'] = 1;
+    lengths['c'] = 3;
+    lengths['d'] = 3;
+
+    int[] codes = CanonicalHuffman.codes(lengths);
+
+    Assertions.assertEquals(0b10, codes['a']);
+    Assertions.assertEquals(0b0, codes['b']);
+    Assertions.assertEquals(0b110, codes['c']);
+    Assertions.assertEquals(0b111, codes['d']);
+  }
+
+  @Test
+  public void codeLengthsFromTreeTest()
+  {
+//    same tree as HuffmanTest.generateBytesTest, b=0, a=10, c=110, d=111
+    Huffman h = new Huffman();
+    int[] frequencies = h.createFrequencyTable("aabbbcd".toCharArray());
+    HuffmanNode root = h.createHuffmanTree(h.createPriorityQueue(frequencies));
+
+    int[] lengths = CanonicalHuffman.codeLengths(root, 256);
+
+    Assertions.assertEquals(2, lengths['a']);
+    Assertions.assertEquals(1, lengths['b']);
+    Assertions.assertEquals(3, lengths['c']);
+    Assertions.assertEquals(3, lengths['d']);
+    Assertions.assertEquals(0, lengths['x']);
+  }
+
+  @Test
+  public void limitedCodeLengthsTest()
+  {
+//    fibonacci frequencies build the deepest possible tree, 30 symbols need 29 bits unlimited
+    int[] frequencies = new int[256];
+    for (int i = 0, a = 1, b = 1; i < 30; i++)
+    {
+      frequencies[i] = a;
+      int next = a + b;
+      a = b;
+      b = next;
+    }
+
+    Huffman h = new Huffman();
+    int[] unlimited = CanonicalHuffman.codeLengths(h.createHuffmanTree(h.createPriorityQueue(frequencies)), 256);
+    Assertions.assertEquals(29, CanonicalHuffman.maxLength(unlimited));
+
+    int[] lengths = CanonicalHuffman.limitedCodeLengths(frequencies, 15);
+
+    Assertions.assertEquals(15, CanonicalHuffman.maxLength(lengths));
+    Assertions.assertEquals(1.0, kraftSum(lengths));
+    Assertions.assertEquals(0, lengths[200]);
+
+//    the more frequent symbol never gets the longer code
+    for (int i = 1; i < 30; i++)
+    {
+      Assertions.assertTrue(lengths[i] <= lengths[i - 1]);
+    }
+  }
+
+  @Test
+  public void limitedCodeLengthsMatchHuffmanTest()
+  {
+//    when the limit is not hit package-merge is as good as the tree
+    int[] frequencies = new Huffman().createFrequencyTable("this is an example of a huffman tree".toCharArray());
+
+    Huffman h = new Huffman();
+    int[] tree = CanonicalHuffman.codeLengths(h.createHuffmanTree(h.createPriorityQueue(frequencies)), 256);
+    int[] limited = CanonicalHuffman.limitedCodeLengths(frequencies, 15);
+
+    Assertions.assertEquals(cost(tree, frequencies), cost(limited, frequencies));
+    Assertions.assertEquals(1.0, kraftSum(limited));
+  }
+
+  @Test
+  public void limitedCodeLengthsSmallAlphabetTest()
+  {
+    int[] frequencies = new int[4];
+    Assertions.assertArrayEquals(new int[]{0, 0, 0, 0}, CanonicalHuffman.limitedCodeLengths(frequencies, 15));
+
+    frequencies[2] = 5;
+    Assertions.assertArrayEquals(new int[]{0, 0, 1, 0}, CanonicalHuffman.limitedCodeLengths(frequencies, 15));
+
+    frequencies[0] = 1;
+    Assertions.assertArrayEquals(new int[]{1, 0, 1, 0}, CanonicalHuffman.limitedCodeLengths(frequencies, 15));
+
+    frequencies[1] = 1;
+    frequencies[3] = 1;
+    Assertions.assertArrayEquals(new int[]{2, 2, 2, 2}, CanonicalHuffman.limitedCodeLengths(frequencies, 2));
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> CanonicalHuffman.limitedCodeLengths(new int[]{1, 1, 1}, 1));
+  }
+
+  private double kraftSum(int[] lengths)
+  {
+    double sum = 0;
+    for (int length : lengths)
+    {
+      if (length > 0) sum += Math.pow(2, -length);
+    }
+    return sum;
+  }
+
+  private long cost(int[] lengths, int[] frequencies)
+  {
+    long cost = 0;
+    for (int i = 0; i < lengths.length; i++)
+    {
+      cost += (long) lengths[i] * frequencies[i];
+    }
+    return cost;
+  }
+}
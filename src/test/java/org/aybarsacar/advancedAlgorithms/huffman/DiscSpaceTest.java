@@ -1,11 +1,19 @@
 package org.aybarsacar.advancedAlgorithms.huffman;
 
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayOutputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
 import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.BitSet;
 
 public class DiscSpaceTest
@@ -89,6 +97,35 @@ public class DiscSpaceTest
     }
   }
 
+  @Test
+  public void saveHuffmanAsPackedBits(@TempDir Path dir) throws IOException
+  {
+    byte[] text = createLongString().getBytes(StandardCharsets.UTF_8);
+    Path file = dir.resolve("saved_huffman_as_bits.txt");
+
+    // the stream packs the bits itself, no BitSet or header juggling needed
+    try (OutputStream out = new HuffmanOutputStream(Files.newOutputStream(file)))
+    {
+      out.write(text);
+    }
+
+    ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+    try (InputStream in = new HuffmanInputStream(Files.newInputStream(file)))
+    {
+      byte[] buffer = new byte[1000];
+      for (int read; (read = in.read(buffer)) != -1; )
+      {
+        decoded.write(buffer, 0, read);
+      }
+    }
+
+    Assertions.assertArrayEquals(text, decoded.toByteArray());
+
+    // a char per bit is what saveHuffmanAsText writes
+    int charPerBit = new Huffman().compress(createLongString().toCharArray()).length();
+    Assertions.assertTrue(Files.size(file) < charPerBit / 4, Files.size(file) + " bytes");
+  }
+
   /**
    * This method only creates the long string
    *
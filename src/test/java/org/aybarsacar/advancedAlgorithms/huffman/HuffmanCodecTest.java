@@ -0,0 +1,104 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class HuffmanCodecTest
+{
+  HuffmanCodec codec;
+
+  @BeforeEach
+  void init()
+  {
+    SymbolFrequencies model = new SymbolFrequencies();
+    model.addChars("the quick brown fox jumps over the lazy dog".toCharArray());
+    codec = HuffmanCodec.fromFrequencies(model);
+  }
+
+  @Test
+  public void charsRoundTripTest() throws IOException
+  {
+    char[] text = "the lazy dog jumps over the quick brown fox".toCharArray();
+
+    byte[] encoded = codec.encodeChars(text);
+
+    Assertions.assertArrayEquals(text, codec.decodeChars(encoded));
+//    no header, only the length and the bits
+    Assertions.assertTrue(encoded.length < text.length);
+  }
+
+  @Test
+  public void bytesRoundTripTest() throws IOException
+  {
+    byte[] data = "a dog a fox".getBytes(StandardCharsets.US_ASCII);
+
+    Assertions.assertArrayEquals(data, codec.decode(codec.encode(data)));
+    Assertions.assertArrayEquals(new byte[0], codec.decode(codec.encode(new byte[0])));
+  }
+
+  @Test
+  public void codeTableTest() throws IOException
+  {
+//    a hand written table: a -> 0, b -> 10, the surrogate pair -> 11
+    int[] symbols = {'a', 'b', 0x1F600};
+    int[] lengths = {1, 2, 2};
+    HuffmanCodec fromTable = new HuffmanCodec(new HuffmanCode(symbols, lengths));
+
+    String text = "ab\ud83d\ude00a";
+    byte[] encoded = fromTable.encodeCodePoints(text);
+
+//    varint 4 then 0 10 11 0
+    Assertions.assertArrayEquals(new byte[]{4, (byte) 0b01011000}, encoded);
+    Assertions.assertEquals(text, fromTable.decodeCodePoints(encoded));
+
+//    the code point does not fit in a char
+    Assertions.assertThrows(IOException.class, () -> fromTable.decodeChars(encoded));
+  }
+
+  @Test
+  public void unknownSymbolTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> codec.encodeChars("XYZ".toCharArray()));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new HuffmanCodec(new HuffmanCode(new int[0], new int[0])));
+  }
+
+  @Test
+  public void sharedBetweenThreadsTest() throws Exception
+  {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try
+    {
+      List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 32; i++)
+      {
+        final int seed = i;
+        results.add(executor.submit(() -> {
+          StringBuilder s = new StringBuilder();
+          for (int j = 0; j < 1000 + seed; j++)
+          {
+            s.append("the quick brown fox".charAt((j * seed + j) % 19));
+          }
+          char[] text = s.toString().toCharArray();
+          return new String(text).equals(new String(codec.decodeChars(codec.encodeChars(text))));
+        }));
+      }
+
+      for (Future<Boolean> result : results)
+      {
+        Assertions.assertTrue(result.get());
+      }
+    } finally
+    {
+      executor.shutdown();
+    }
+  }
+}
@@ -0,0 +1,86 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+import org.aybarsacar.advancedAlgorithms.helper.BitOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class HuffmanDecodeTableTest
+{
+  @Test
+  public void decodeShortCodesTest() throws IOException
+  {
+    int[] lengths = new int[256];
+    lengths['a'] = 2;
+    lengths['b'] = 1;
+    lengths['c'] = 3;
+    lengths['d'] = 3;
+
+    Assertions.assertEquals("aabbbcd", roundTrip(lengths, "aabbbcd"));
+  }
+
+  @Test
+  public void decodeLongCodesTest() throws IOException
+  {
+//    a skewed code where symbol i gets length i + 1, the last two share the longest length
+//    20 symbols puts most codes past the primary table
+    int[] lengths = new int[256];
+    for (int i = 0; i < 19; i++)
+    {
+      lengths['A' + i] = i + 1;
+    }
+    lengths['A' + 19] = 19;
+
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 20; i++)
+    {
+      for (int j = 0; j <= i % 5; j++)
+      {
+        text.append((char) ('A' + i));
+      }
+    }
+
+    Assertions.assertEquals(text.toString(), roundTrip(lengths, text.toString()));
+  }
+
+  @Test
+  public void invalidCodeTest() throws IOException
+  {
+//    a single symbol only owns the code 0, a 1 bit is not a code
+    int[] lengths = new int[256];
+    lengths['z'] = 1;
+
+    HuffmanDecodeTable table = new HuffmanDecodeTable(lengths);
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(new byte[]{(byte) 0b01000000}));
+
+    Assertions.assertEquals('z', table.decode(in));
+    Assertions.assertThrows(IOException.class, () -> table.decode(in));
+  }
+
+  private String roundTrip(int[] lengths, String text) throws IOException
+  {
+    int[] codes = CanonicalHuffman.codes(lengths);
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    BitOutputStream out = new BitOutputStream(bytes);
+    for (char c : text.toCharArray())
+    {
+      out.writeBits(codes[c], lengths[c]);
+    }
+    out.close();
+
+    HuffmanDecodeTable table = new HuffmanDecodeTable(lengths);
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+
+    StringBuilder decoded = new StringBuilder();
+    for (int i = 0; i < text.length(); i++)
+    {
+      decoded.append((char) table.decode(in));
+    }
+    return decoded.toString();
+  }
+}
@@ -0,0 +1,97 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.aybarsacar.advancedAlgorithms.helper.BitInputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class HuffmanEncoderTest
+{
+  HuffmanEncoder encoder;
+
+  @BeforeEach
+  void init()
+  {
+    encoder = new HuffmanEncoder();
+  }
+
+  @Test
+  public void roundTripTest() throws IOException
+  {
+    byte[] text = "aabbbcd - a reusable encoder context".getBytes(StandardCharsets.UTF_8);
+
+    encoder.encodeBlock(text, 0, text.length);
+
+    Assertions.assertArrayEquals(text, decodeBlocks(encoder.toByteArray(), text.length));
+  }
+
+  @Test
+  public void reusedEncoderTest()
+  {
+    Random random = new Random(7);
+    byte[] first = new byte[50_000];
+    byte[] second = new byte[300];
+    for (int i = 0; i < first.length; i++)
+    {
+      first[i] = (byte) (random.nextGaussian() * 30);
+    }
+    random.nextBytes(second);
+
+    encoder.encodeBlock(first, 0, first.length);
+    encoder.reset();
+    encoder.encodeBlock(second, 0, second.length);
+
+//    nothing of the larger block may leak into the next one
+    HuffmanEncoder fresh = new HuffmanEncoder();
+    fresh.encodeBlock(second, 0, second.length);
+
+    Assertions.assertArrayEquals(fresh.toByteArray(), encoder.toByteArray());
+    Assertions.assertEquals(fresh.size(), encoder.size());
+  }
+
+  @Test
+  public void appendedBlocksTest() throws IOException
+  {
+    byte[] data = new byte[10_000];
+    for (int i = 0; i < data.length; i++)
+    {
+      data[i] = (byte) (i % 7 == 0 ? i : 'x');
+    }
+
+//    offsets in the middle of the array and several blocks in one buffer
+    encoder.encodeBlock(data, 0, 1);
+    encoder.encodeBlock(data, 1, 4000);
+    encoder.encodeBlock(data, 4001, data.length - 4001);
+
+    Assertions.assertArrayEquals(data, decodeBlocks(encoder.toByteArray(), data.length));
+  }
+
+  @Test
+  public void threadLocalTest()
+  {
+    Assertions.assertSame(HuffmanEncoder.threadLocal(), HuffmanEncoder.threadLocal());
+    Assertions.assertNotSame(encoder, HuffmanEncoder.threadLocal());
+  }
+
+  private static byte[] decodeBlocks(byte[] encoded, int length) throws IOException
+  {
+    BitInputStream in = new BitInputStream(new ByteArrayInputStream(encoded));
+    byte[] data = new byte[length];
+
+    int position = 0;
+    while (in.hasMoreBits())
+    {
+      int count = (int) in.readVarInt();
+      HuffmanBlock.decode(in, count, data, position);
+      position += count;
+    }
+
+    Assertions.assertEquals(length, position);
+    return data;
+  }
+}
@@ -0,0 +1,143 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class HuffmanStreamTest
+{
+  @Test
+  public void roundTripTest() throws IOException
+  {
+    byte[] text = "aabbbcd - this text contains the old sentinel - too".getBytes(StandardCharsets.UTF_8);
+
+    byte[] compressed = compress(text, HuffmanOutputStream.DEFAULT_BLOCK_SIZE);
+
+    Assertions.assertArrayEquals(text, decompress(compressed));
+  }
+
+  @Test
+  public void compressedIsSmallerTest() throws IOException
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 100; i++)
+    {
+      s.append("This is a test of disk space used saving as String");
+    }
+    byte[] text = s.toString().getBytes(StandardCharsets.UTF_8);
+
+    byte[] compressed = compress(text, HuffmanOutputStream.DEFAULT_BLOCK_SIZE);
+
+    Assertions.assertTrue(compressed.length < text.length * 6 / 10);
+    Assertions.assertArrayEquals(text, decompress(compressed));
+  }
+
+  @Test
+  public void multipleBlocksTest() throws IOException
+  {
+//    every byte value with a skewed distribution, spread over many small blocks
+    Random random = new Random(42);
+    byte[] data = new byte[100_000];
+    for (int i = 0; i < data.length; i++)
+    {
+      data[i] = (byte) (random.nextGaussian() * 20);
+    }
+
+    byte[] compressed = compress(data, 4096);
+
+    Assertions.assertArrayEquals(data, decompress(compressed));
+  }
+
+  @Test
+  public void deepTreeTest() throws IOException
+  {
+//    fibonacci frequencies push the Huffman tree past the 15 bit code limit
+    ByteArrayOutputStream data = new ByteArrayOutputStream();
+    for (int i = 0, a = 1, b = 1; i < 25; i++)
+    {
+      for (int j = 0; j < a; j++)
+      {
+        data.write(i);
+      }
+      int next = a + b;
+      a = b;
+      b = next;
+    }
+
+    Assertions.assertArrayEquals(data.toByteArray(), decompress(compress(data.toByteArray(), 1 << 20)));
+  }
+
+  @Test
+  public void singleSymbolTest() throws IOException
+  {
+    byte[] data = new byte[1000];
+
+    Assertions.assertArrayEquals(data, decompress(compress(data, 300)));
+    Assertions.assertArrayEquals(new byte[]{7}, decompress(compress(new byte[]{7}, 300)));
+  }
+
+  @Test
+  public void emptyStreamTest() throws IOException
+  {
+    byte[] compressed = compress(new byte[0], 16);
+
+    Assertions.assertEquals(1, compressed.length);
+    Assertions.assertArrayEquals(new byte[0], decompress(compressed));
+  }
+
+  @Test
+  public void flushEndsBlockTest() throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    HuffmanOutputStream out = new HuffmanOutputStream(bytes);
+
+    out.write("first".getBytes(StandardCharsets.UTF_8));
+    out.flush();
+    out.write("second".getBytes(StandardCharsets.UTF_8));
+    out.close();
+
+    Assertions.assertEquals("firstsecond", new String(decompress(bytes.toByteArray()), StandardCharsets.UTF_8));
+  }
+
+  @Test
+  public void invalidBlockSizeTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> new HuffmanOutputStream(new ByteArrayOutputStream(), 0));
+  }
+
+  private byte[] compress(byte[] data, int blockSize) throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new HuffmanOutputStream(bytes, blockSize))
+    {
+//      odd sized writes so blocks do not line up with the writes
+      for (int i = 0; i < data.length; i += 777)
+      {
+        out.write(data, i, Math.min(777, data.length - i));
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private byte[] decompress(byte[] compressed) throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (InputStream in = new HuffmanInputStream(new ByteArrayInputStream(compressed)))
+    {
+      byte[] buffer = new byte[1000];
+      for (int read; (read = in.read(buffer)) != -1; )
+      {
+        bytes.write(buffer, 0, read);
+      }
+    }
+    return bytes.toByteArray();
+  }
+}
@@ -4,6 +4,7 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.PriorityQueue;
 
 public class HuffmanTest
@@ -211,4 +212,78 @@ public class HuffmanTest
 
     Assertions.assertArrayEquals("aabbbcd".toCharArray(), decompressedCharArray);
   }
+
+  @Test
+  public void compressDecompressAnyCharTest()
+  {
+//    - used to mark the internal nodes, chars past 255 used to overflow the tables
+    String text = "a-b--c---d \u00e9\u4e2d\u6587 aabbccdd";
+
+    String compressed = h.compress(text.toCharArray());
+
+    Assertions.assertArrayEquals(text.toCharArray(), new Huffman().decompress(compressed.toCharArray()));
+  }
+
+  @Test
+  public void compressDecompressSingleCharTest()
+  {
+    String compressed = h.compress("zzzz".toCharArray());
+
+    Assertions.assertArrayEquals("zzzz".toCharArray(), new Huffman().decompress(compressed.toCharArray()));
+  }
+
+  @Test
+  public void compressToBytesTest() throws IOException
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 50; i++)
+    {
+      s.append("Huffman \u30cf\u30d5\u30de\u30f3 - \u0445\u0430\u0444\u0444\u043c\u0430\u043d ").append(i);
+    }
+    char[] text = s.toString().toCharArray();
+
+    byte[] compressed = h.compressToBytes(text);
+
+    Assertions.assertTrue(compressed.length < text.length);
+    Assertions.assertArrayEquals(text, h.decompressFromBytes(compressed));
+    Assertions.assertArrayEquals(new char[0], h.decompressFromBytes(h.compressToBytes(new char[0])));
+  }
+
+  @Test
+  public void compressCodePointsTest() throws IOException
+  {
+//    emoji and other supplementary characters are one symbol each, not two surrogates
+    String text = "\ud83d\ude00 grin \ud83d\ude00\ud83d\ude00 \ud83c\udf89 party - \ud835\udd04\ud835\udd05";
+
+    byte[] compressed = h.compressCodePoints(text);
+
+    Assertions.assertEquals(text, h.decompressCodePoints(compressed));
+  }
+
+  @Test
+  public void symbolFrequenciesTest()
+  {
+    SymbolFrequencies frequencies = new SymbolFrequencies();
+    frequencies.addCodePoints("aab\ud83d\ude00\ud83d\ude00\u4e2d");
+    frequencies.addBytes(new byte[]{(byte) 200, 'a'});
+
+    Assertions.assertEquals(5, frequencies.size());
+    Assertions.assertEquals(3, frequencies.get('a'));
+    Assertions.assertEquals(1, frequencies.get(200));
+    Assertions.assertEquals(2, frequencies.get(0x1F600));
+    Assertions.assertEquals(0, frequencies.get('z'));
+    Assertions.assertArrayEquals(new int[]{'a', 'b', 200, 0x4e2d, 0x1F600}, frequencies.symbols());
+  }
+
+  @Test
+  public void decompressOnAnotherInstanceTest()
+  {
+//    the header holds digits, : and the end marker as symbols, the payload start is found by parsing it
+    char[] text = "\u0002::12\u0002 99:1".toCharArray();
+    String compressed = new Huffman().compress(text);
+
+    Assertions.assertArrayEquals(text, new Huffman().decompress(compressed.toCharArray()));
+    Assertions.assertEquals(h.compress(text).length() - h.header.length(), h.encodeString(text,
+        h.createHuffmanTree(h.createPriorityQueue(h.createFrequencyTable(text)))).length());
+  }
 }
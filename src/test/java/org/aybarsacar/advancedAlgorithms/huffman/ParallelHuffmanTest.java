@@ -0,0 +1,93 @@
+package org.aybarsacar.advancedAlgorithms.huffman;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelHuffmanTest
+{
+  ForkJoinPool pool;
+  ParallelHuffman h;
+  byte[] data;
+
+  @BeforeEach
+  public void init()
+  {
+    pool = new ForkJoinPool(4);
+    h = new ParallelHuffman(pool, 10_000);
+
+//    text like data that does not end on a block boundary
+    Random random = new Random(7);
+    data = new byte[123_456];
+    for (int i = 0; i < data.length; i++)
+    {
+      data[i] = (byte) ('a' + Math.abs(random.nextGaussian() * 6) % 26);
+    }
+  }
+
+  @AfterEach
+  public void shutdown()
+  {
+    pool.shutdown();
+  }
+
+  @Test
+  public void roundTripTest()
+  {
+    byte[] compressed = h.compress(data);
+
+    Assertions.assertEquals(13, ParallelHuffman.blockCount(compressed));
+    Assertions.assertTrue(compressed.length < data.length * 6 / 10);
+    Assertions.assertArrayEquals(data, h.decompress(compressed));
+  }
+
+  @Test
+  public void decompressBlockTest()
+  {
+    byte[] compressed = h.compress(data);
+
+    Assertions.assertArrayEquals(Arrays.copyOfRange(data, 50_000, 60_000),
+        ParallelHuffman.decompressBlock(compressed, 5));
+    Assertions.assertArrayEquals(Arrays.copyOfRange(data, 120_000, data.length),
+        ParallelHuffman.decompressBlock(compressed, 12));
+    Assertions.assertThrows(IndexOutOfBoundsException.class, () -> ParallelHuffman.decompressBlock(compressed, 13));
+  }
+
+  @Test
+  public void sameAsSequentialTest()
+  {
+//    the result does not depend on how the blocks were scheduled
+    ForkJoinPool single = new ForkJoinPool(1);
+    try
+    {
+      byte[] sequential = new ParallelHuffman(single, 10_000).compress(data);
+
+      Assertions.assertArrayEquals(sequential, h.compress(data));
+    }
+    finally
+    {
+      single.shutdown();
+    }
+  }
+
+  @Test
+  public void emptyTest()
+  {
+    byte[] compressed = h.compress(new byte[0]);
+
+    Assertions.assertEquals(0, ParallelHuffman.blockCount(compressed));
+    Assertions.assertArrayEquals(new byte[0], h.decompress(compressed));
+  }
+
+  @Test
+  public void corruptContainerTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> h.decompress(new byte[]{1, 2, 3}));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> h.decompress(new byte[64]));
+  }
+}
@@ -74,4 +74,53 @@ public class KnuthMorrisPrattTest
     expected = new int[]{0, 0, 0, 1, 2, 1};
     Assertions.assertArrayEquals(expected, lspTable);
   }
+
+  @Test
+  public void computeAutomatonTest()
+  {
+    int[] automaton = kmp.computeAutomaton("abab".toCharArray());
+    int a = 'a', b = 'b', c = 'c';
+
+    Assertions.assertEquals(5 * KnuthMorrisPratt.ALPHABET_SIZE, automaton.length);
+    Assertions.assertEquals(1, automaton[a]);
+    Assertions.assertEquals(0, automaton[b]);
+//    abaa falls back to a, abab is a match, ababa continues from the border ab
+    Assertions.assertEquals(1, automaton[3 * KnuthMorrisPratt.ALPHABET_SIZE + a]);
+    Assertions.assertEquals(4, automaton[3 * KnuthMorrisPratt.ALPHABET_SIZE + b]);
+    Assertions.assertEquals(3, automaton[4 * KnuthMorrisPratt.ALPHABET_SIZE + a]);
+    Assertions.assertEquals(0, automaton[4 * KnuthMorrisPratt.ALPHABET_SIZE + c]);
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> kmp.computeAutomaton("\u4e2d".toCharArray()));
+  }
+
+  @Test
+  public void automatonSelectionTest()
+  {
+    char[] wide = new char[300];
+    Arrays.fill(wide, 'a');
+
+    Assertions.assertTrue(KnuthMorrisPratt.compile("abc".toCharArray()).usesAutomaton());
+    Assertions.assertFalse(KnuthMorrisPratt.compile("abc".toCharArray(), 0).usesAutomaton());
+    Assertions.assertFalse(KnuthMorrisPratt.compile("a\u4e2d".toCharArray()).usesAutomaton());
+    Assertions.assertFalse(KnuthMorrisPratt.compile(wide).usesAutomaton());
+    Assertions.assertTrue(KnuthMorrisPratt.compile(wide, KnuthMorrisPratt.automatonSize(300)).usesAutomaton());
+    Assertions.assertTrue(KnuthMorrisPratt.compile(new byte[]{(byte) 0xFF}).usesAutomaton());
+  }
+
+  @Test
+  public void automatonMatchesTableTest()
+  {
+//    both modes report the same matches, chars above 255 in the text reset the automaton
+    char[] text = "aab\u4e2daabaabaab\u00ffaabaab".toCharArray();
+
+    for (String p : new String[]{"aab", "aabaab", "\u00ffa", "b"})
+    {
+      KnuthMorrisPrattPattern automaton = KnuthMorrisPratt.compile(p.toCharArray());
+      KnuthMorrisPrattPattern table = KnuthMorrisPratt.compile(p.toCharArray(), 0);
+
+      Assertions.assertTrue(automaton.usesAutomaton());
+      Assertions.assertArrayEquals(table.findAll(text).toArray(), automaton.findAll(text).toArray(), p);
+      Assertions.assertEquals(table.find(text, 5), automaton.find(text, 5), p);
+    }
+  }
 }
@@ -0,0 +1,55 @@
+package org.aybarsacar.advancedAlgorithms.lzw;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class LZWDictionaryTest
+{
+  LZWDictionary dictionary;
+
+  @BeforeEach
+  public void init()
+  {
+    dictionary = new LZWDictionary(4);
+  }
+
+  @Test
+  public void putGetTest()
+  {
+    dictionary.put('a', 'b', 256);
+    dictionary.put(256, 'c', 257);
+
+    Assertions.assertEquals(256, dictionary.get('a', 'b'));
+    Assertions.assertEquals(257, dictionary.get(256, 'c'));
+    Assertions.assertEquals(-1, dictionary.get('b', 'a'));
+    Assertions.assertEquals(2, dictionary.size());
+  }
+
+  @Test
+  public void growTest()
+  {
+//    same symbol after many prefixes, and wide chars, well past the initial capacity
+    for (int prefix = 0; prefix < 100_000; prefix++)
+    {
+      dictionary.put(prefix, prefix % 3 == 0 ? 'x' : 0xFFFF, prefix + 256);
+    }
+
+    Assertions.assertEquals(100_000, dictionary.size());
+    for (int prefix = 0; prefix < 100_000; prefix++)
+    {
+      Assertions.assertEquals(prefix + 256, dictionary.get(prefix, prefix % 3 == 0 ? 'x' : 0xFFFF));
+    }
+    Assertions.assertEquals(-1, dictionary.get(0, 0xFFFF));
+  }
+
+  @Test
+  public void clearTest()
+  {
+    dictionary.put(1, 2, 300);
+    dictionary.clear();
+
+    Assertions.assertEquals(0, dictionary.size());
+    Assertions.assertEquals(-1, dictionary.get(1, 2));
+  }
+}
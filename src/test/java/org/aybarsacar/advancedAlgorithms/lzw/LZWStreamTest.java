@@ -0,0 +1,117 @@
+package org.aybarsacar.advancedAlgorithms.lzw;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+public class LZWStreamTest
+{
+  @Test
+  public void roundTripTest() throws IOException
+  {
+    byte[] text = "This is a test of compression".getBytes(StandardCharsets.UTF_8);
+
+    Assertions.assertArrayEquals(text, decompress(compress(text, LZWOutputStream.DEFAULT_MAX_BITS)));
+  }
+
+  @Test
+  public void specialCaseTest() throws IOException
+  {
+//    abababa makes the writer use a code in the same step it defines it
+    byte[] text = "abababa".getBytes(StandardCharsets.UTF_8);
+    byte[] compressed = compress(text, 9);
+
+//    header, then a b 258 260 EOF in 9 bits each
+    Assertions.assertEquals(1 + (5 * 9 + 7) / 8, compressed.length);
+    Assertions.assertArrayEquals(text, decompress(compressed));
+
+    byte[] same = new byte[10_000];
+    Assertions.assertArrayEquals(same, decompress(compress(same, 12)));
+  }
+
+  @Test
+  public void compressedIsSmallerTest() throws IOException
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 1000; i++)
+    {
+      s.append("This is a test of disk space used saving as String ").append(i % 10);
+    }
+    byte[] text = s.toString().getBytes(StandardCharsets.UTF_8);
+
+    byte[] compressed = compress(text, LZWOutputStream.DEFAULT_MAX_BITS);
+
+    Assertions.assertTrue(compressed.length < text.length / 10);
+    Assertions.assertArrayEquals(text, decompress(compressed));
+  }
+
+  @Test
+  public void dictionaryResetTest() throws IOException
+  {
+//    random bytes fill a 9 and a 12 bit dictionary many times over
+    Random random = new Random(42);
+    byte[] data = new byte[300_000];
+    for (int i = 0; i < data.length; i++)
+    {
+      data[i] = (byte) (i % 3 == 0 ? random.nextInt(256) : random.nextInt(8));
+    }
+
+    for (int maxBits = LZWOutputStream.MIN_BITS; maxBits <= LZWOutputStream.MAX_BITS; maxBits++)
+    {
+      Assertions.assertArrayEquals(data, decompress(compress(data, maxBits)), "maxBits " + maxBits);
+    }
+  }
+
+  @Test
+  public void emptyStreamTest() throws IOException
+  {
+    byte[] compressed = compress(new byte[0], 12);
+
+    Assertions.assertEquals(3, compressed.length);
+    Assertions.assertArrayEquals(new byte[0], decompress(compressed));
+  }
+
+  @Test
+  public void invalidStreamTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new LZWOutputStream(new ByteArrayOutputStream(), 8));
+    Assertions.assertThrows(IOException.class, () -> decompress(new byte[]{20, 0, 0}));
+
+//    9 bit code 300 is not defined yet
+    Assertions.assertThrows(IOException.class, () -> decompress(new byte[]{9, (byte) (300 >>> 1), (byte) (300 << 7)}));
+  }
+
+  private byte[] compress(byte[] data, int maxBits) throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (OutputStream out = new LZWOutputStream(bytes, maxBits))
+    {
+      for (int i = 0; i < data.length; i += 777)
+      {
+        out.write(data, i, Math.min(777, data.length - i));
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  private byte[] decompress(byte[] compressed) throws IOException
+  {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (InputStream in = new LZWInputStream(new ByteArrayInputStream(compressed)))
+    {
+      byte[] buffer = new byte[1000];
+      for (int read; (read = in.read(buffer)) != -1; )
+      {
+        bytes.write(buffer, 0, read);
+      }
+    }
+    return bytes.toByteArray();
+  }
+}
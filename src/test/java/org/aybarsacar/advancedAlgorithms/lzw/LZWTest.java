@@ -75,4 +75,36 @@ public class LZWTest
     System.out.println(lzw.decompress(compressed));
     Assertions.assertEquals("-1", lzw.decompress(compressed));
   }
+
+  @Test
+  public void roundTripTest()
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 2000; i++)
+    {
+      s.append("abracadabra ").append((char) (i % 256));
+    }
+    String text = s.toString();
+
+    List<Integer> compressed = lzw.compress(text);
+
+    Assertions.assertTrue(compressed.size() < text.length() / 2);
+    Assertions.assertEquals(text, lzw.decompress(compressed));
+  }
+
+  @Test
+  public void decompressKeepsInputTest()
+  {
+    List<Integer> compressed = lzw.compress("ababcbc");
+    lzw.decompress(compressed);
+
+    Assertions.assertEquals(6, compressed.size());
+    Assertions.assertEquals("ababcbc", lzw.decompress(compressed));
+  }
+
+  @Test
+  public void compressWideCharTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> lzw.compress("caf\u00e9 \u4e2d"));
+  }
 }
@@ -0,0 +1,118 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import org.aybarsacar.advancedAlgorithms.boyermoore.BoyerMoore;
+import org.aybarsacar.advancedAlgorithms.kmp.KnuthMorrisPratt;
+import org.aybarsacar.advancedAlgorithms.zalgorithm.ZAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+public class ByteMatcherTest
+{
+  private static final List<Function<byte[], ByteMatcher>> COMPILERS = Arrays.asList(
+      BoyerMoore::compile,
+      KnuthMorrisPratt::compile,
+      pattern -> KnuthMorrisPratt.compile(pattern, 0),
+      ZAlgorithm::compile,
+      RareBytePattern::compile
+  );
+
+  @Test
+  public void findTest()
+  {
+    byte[] text = "abababaxaba".getBytes(StandardCharsets.US_ASCII);
+
+    for (Function<byte[], ByteMatcher> compiler : COMPILERS)
+    {
+      ByteMatcher matcher = compiler.apply("aba".getBytes(StandardCharsets.US_ASCII));
+      String name = matcher.getClass().getSimpleName();
+
+      Assertions.assertEquals("[0, 2, 4, 8]", findAll(matcher, ByteBuffer.wrap(text)).toString(), name);
+      Assertions.assertEquals(2, matcher.find(text, 1), name);
+      Assertions.assertEquals(-1, matcher.find(text, 9), name);
+      Assertions.assertEquals(-1, matcher.find((ByteBuffer) null, 0), name);
+    }
+  }
+
+  @Test
+  public void highBytesTest()
+  {
+//    bytes above 127 are negative in Java and must not index the tables below 0
+    byte[] pattern = {(byte) 0xC3, (byte) 0xA9, 0};
+    byte[] text = {1, (byte) 0xC3, (byte) 0xC3, (byte) 0xA9, 0, (byte) 0xFF, (byte) 0xA9};
+
+    for (Function<byte[], ByteMatcher> compiler : COMPILERS)
+    {
+      Assertions.assertEquals(2, compiler.apply(pattern).find(text, 0));
+    }
+  }
+
+  @Test
+  public void matchesIndexOfTest()
+  {
+    Random random = new Random(13);
+    for (int round = 0; round < 200; round++)
+    {
+      byte[] text = randomBytes(random, random.nextInt(300));
+      byte[] word = randomBytes(random, 1 + random.nextInt(5));
+
+      String s = new String(text, StandardCharsets.ISO_8859_1);
+      String w = new String(word, StandardCharsets.ISO_8859_1);
+      List<Integer> expected = new ArrayList<>();
+      for (int i = s.indexOf(w); i >= 0; i = s.indexOf(w, i + 1))
+      {
+        expected.add(i);
+      }
+
+      for (Function<byte[], ByteMatcher> compiler : COMPILERS)
+      {
+        ByteMatcher matcher = compiler.apply(word);
+        Assertions.assertEquals(expected, findAll(matcher, ByteBuffer.wrap(text)), matcher.getClass().getSimpleName());
+      }
+    }
+  }
+
+  @Test
+  public void limitTest()
+  {
+    ByteBuffer buffer = ByteBuffer.allocateDirect(16);
+    buffer.put("xxxxneedlexxxxxx".getBytes(StandardCharsets.US_ASCII));
+    buffer.position(3);
+
+    for (Function<byte[], ByteMatcher> compiler : COMPILERS)
+    {
+      ByteMatcher matcher = compiler.apply("needle".getBytes(StandardCharsets.US_ASCII));
+
+//      the buffer is read up to its limit whatever its position
+      buffer.limit(10);
+      Assertions.assertEquals(4, matcher.find(buffer, 0));
+      buffer.limit(9);
+      Assertions.assertEquals(-1, matcher.find(buffer, 0));
+      Assertions.assertEquals(3, buffer.position());
+    }
+  }
+
+  static byte[] randomBytes(Random random, int length)
+  {
+    byte[] bytes = new byte[length];
+    for (int i = 0; i < length; i++)
+    {
+      bytes[i] = (byte) (random.nextBoolean() ? 0xFE : random.nextInt(2));
+    }
+    return bytes;
+  }
+
+  private static List<Integer> findAll(ByteMatcher matcher, ByteBuffer text)
+  {
+    List<Integer> found = new ArrayList<>();
+    matcher.findAll(text, found::add);
+    return found;
+  }
+}
@@ -0,0 +1,78 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import org.aybarsacar.advancedAlgorithms.boyermoore.BoyerMoore;
+import org.aybarsacar.advancedAlgorithms.kmp.KnuthMorrisPratt;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class MappedFileSearchTest
+{
+  Path file;
+  byte[] data;
+
+  @BeforeEach
+  public void init() throws IOException
+  {
+    data = ByteMatcherTest.randomBytes(new Random(21), 3_000);
+    file = Files.createTempFile("mapped", ".bin");
+    Files.write(file, data);
+  }
+
+  @AfterEach
+  public void cleanUp() throws IOException
+  {
+    Files.deleteIfExists(file);
+  }
+
+  @Test
+  public void windowsTest() throws IOException
+  {
+    byte[] word = {(byte) 0xFE, 0, 1, (byte) 0xFE, 1};
+    ByteMatcher matcher = KnuthMorrisPratt.compile(word);
+
+    List<Long> expected = new ArrayList<>();
+    matcher.findAll(ByteBuffer.wrap(data), i -> expected.add((long) i));
+    Assertions.assertFalse(expected.isEmpty());
+
+//    small windows put many matches across a border, each one has to be reported once
+//    every window is a mapping of its own until it is collected, so the file is kept small
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+    {
+      for (int window : new int[]{1, 7, 256, MappedFileSearch.DEFAULT_WINDOW})
+      {
+        List<Long> found = new ArrayList<>();
+        MappedFileSearch.findAll(channel, matcher, window, found::add);
+
+        Assertions.assertEquals(expected, found, "window " + window);
+      }
+    }
+
+    List<Long> found = new ArrayList<>();
+    MappedFileSearch.findAll(file, matcher, found::add);
+    Assertions.assertEquals(expected, found);
+    Assertions.assertEquals(expected.get(0), MappedFileSearch.find(file, BoyerMoore.compile(word)));
+  }
+
+  @Test
+  public void notFoundTest() throws IOException
+  {
+    Assertions.assertEquals(-1, MappedFileSearch.find(file, BoyerMoore.compile("needle".getBytes(StandardCharsets.US_ASCII))));
+
+    Files.write(file, new byte[3]);
+    Assertions.assertEquals(-1, MappedFileSearch.find(file, BoyerMoore.compile(new byte[4])));
+    Assertions.assertEquals(0, MappedFileSearch.find(file, BoyerMoore.compile(new byte[2])));
+  }
+}
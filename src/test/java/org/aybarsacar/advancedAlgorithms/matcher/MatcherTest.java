@@ -0,0 +1,156 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import org.aybarsacar.advancedAlgorithms.boyermoore.BoyerMoore;
+import org.aybarsacar.advancedAlgorithms.boyermoore.BoyerMooreHorspool;
+import org.aybarsacar.advancedAlgorithms.bruteforce.BruteForce;
+import org.aybarsacar.advancedAlgorithms.kmp.KnuthMorrisPratt;
+import org.aybarsacar.advancedAlgorithms.robinkarp.RobinKarp;
+import org.aybarsacar.advancedAlgorithms.zalgorithm.ZAlgorithm;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+
+public class MatcherTest
+{
+  private static final List<Function<char[], Matcher>> COMPILERS = Arrays.asList(
+      BruteForce::compile,
+      BoyerMoore::compile,
+      BoyerMooreHorspool::compile,
+      KnuthMorrisPratt::compile,
+      pattern -> KnuthMorrisPratt.compile(pattern, 0),
+      ZAlgorithm::compile,
+      RobinKarp::compile,
+      pattern -> Matcher.withPrefilter(pattern, BoyerMoore.compile(pattern))
+  );
+
+  @Test
+  public void findAllTest()
+  {
+    for (Function<char[], Matcher> compiler : COMPILERS)
+    {
+      Matcher matcher = compiler.apply("aba".toCharArray());
+
+//      overlapping matches are all reported
+      Assertions.assertArrayEquals(new int[]{0, 2, 4, 8}, matcher.findAll("abababaxaba".toCharArray()).toArray(),
+          matcher.getClass().getSimpleName());
+      Assertions.assertEquals(2, matcher.find("abababaxaba".toCharArray(), 1));
+      Assertions.assertEquals(0, matcher.findAll("xyz".toCharArray()).count());
+      Assertions.assertEquals(-1, matcher.find(null));
+
+//      a match has to end before to
+      char[] text = "abababaxaba".toCharArray();
+      Assertions.assertEquals(2, matcher.find(text, 1, 5));
+      Assertions.assertEquals(4, matcher.find(text, 3, 7));
+      Assertions.assertEquals(-1, matcher.find(text, 3, 6), matcher.getClass().getSimpleName());
+      Assertions.assertEquals(8, matcher.find(text, 5, 100));
+    }
+  }
+
+  @Test
+  public void matchesIndexOfTest()
+  {
+    Random random = new Random(5);
+    for (int round = 0; round < 100; round++)
+    {
+      String text = randomText(random, 300);
+      String word = randomText(random, 1 + random.nextInt(6));
+
+      List<Integer> expected = new ArrayList<>();
+      for (int i = text.indexOf(word); i >= 0; i = text.indexOf(word, i + 1))
+      {
+        expected.add(i);
+      }
+
+      for (Function<char[], Matcher> compiler : COMPILERS)
+      {
+        Matcher matcher = compiler.apply(word.toCharArray());
+        List<Integer> found = new ArrayList<>();
+        matcher.findAll(text.toCharArray(), found::add);
+
+        Assertions.assertEquals(expected, found, matcher.getClass().getSimpleName() + " " + word);
+      }
+    }
+  }
+
+  @Test
+  public void streamTest()
+  {
+    Random random = new Random(8);
+    String text = randomText(random, 5000);
+    String word = "abca";
+
+    for (Function<char[], Matcher> compiler : COMPILERS)
+    {
+      Matcher matcher = compiler.apply(word.toCharArray());
+
+      List<Long> expected = new ArrayList<>();
+      matcher.findAll(text.toCharArray(), i -> expected.add((long) i));
+
+//      chunks from 0 to 9 chars so matches span several of them
+      List<Long> found = new ArrayList<>();
+      MatchStream stream = matcher.stream(found::add);
+      for (int i = 0; i < text.length(); )
+      {
+        int length = Math.min(random.nextInt(10), text.length() - i);
+        stream.feed(CharBuffer.wrap(text, i, i + length));
+        i += length;
+      }
+
+      Assertions.assertEquals(expected, found, matcher.getClass().getSimpleName());
+      Assertions.assertEquals(text.length(), stream.position());
+      Assertions.assertFalse(expected.isEmpty());
+    }
+  }
+
+  @Test
+  public void streamSingleCharTest()
+  {
+    for (Function<char[], Matcher> compiler : COMPILERS)
+    {
+      List<Long> found = new ArrayList<>();
+      MatchStream stream = compiler.apply("a".toCharArray()).stream(found::add);
+
+      stream.feed(CharBuffer.wrap("bab"));
+      stream.feed(CharBuffer.wrap("aa"));
+
+      Assertions.assertEquals(Arrays.asList(1L, 3L, 4L), found);
+    }
+  }
+
+  @Test
+  public void prefilterTest()
+  {
+    Matcher matcher = Matcher.withPrefilter("zebra".toCharArray(), KnuthMorrisPratt.compile("zebra".toCharArray()));
+
+    char[] text = "a zoo with a zebu and a zebra, zebra".toCharArray();
+    Assertions.assertArrayEquals(new int[]{24, 31}, matcher.findAll(text).toArray());
+
+//    z is common here, the rest of the search is left to KMP
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 1000; i++)
+    {
+      s.append("zebr");
+    }
+    s.append("zebra");
+    Assertions.assertEquals(4000, matcher.find(s.toString().toCharArray()));
+
+    Assertions.assertThrows(IllegalArgumentException.class,
+        () -> Matcher.withPrefilter("ab".toCharArray(), BruteForce.compile("abc".toCharArray())));
+  }
+
+  private static String randomText(Random random, int length)
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < length; i++)
+    {
+      s.append((char) ('a' + random.nextInt(3)));
+    }
+    return s.toString();
+  }
+}
@@ -0,0 +1,85 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import org.aybarsacar.advancedAlgorithms.boyermoore.BoyerMoore;
+import org.aybarsacar.advancedAlgorithms.kmp.KnuthMorrisPratt;
+import org.aybarsacar.advancedAlgorithms.zalgorithm.ZAlgorithm;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelSearchTest
+{
+  ForkJoinPool pool;
+  ParallelSearch search;
+  String text;
+
+  @BeforeEach
+  public void init()
+  {
+//    chunks much shorter than the text so many matches cross a border
+    pool = new ForkJoinPool(4);
+    search = new ParallelSearch(pool, 100);
+
+    Random random = new Random(17);
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 20_011; i++)
+    {
+      s.append((char) ('a' + random.nextInt(3)));
+    }
+    text = s.toString();
+  }
+
+  @AfterEach
+  public void shutdown()
+  {
+    pool.shutdown();
+  }
+
+  @Test
+  public void findAllTest()
+  {
+    for (String word : new String[]{"a", "abca", "aaaa", "abcabcabc"})
+    {
+      char[] pattern = word.toCharArray();
+      int[] expected = KnuthMorrisPratt.compile(pattern).findAll(text.toCharArray()).toArray();
+
+      Assertions.assertArrayEquals(expected, search.findAll(text.toCharArray(), BoyerMoore.compile(pattern)), word);
+      Assertions.assertArrayEquals(expected, search.findAll(text.toCharArray(), ZAlgorithm.compile(pattern)), word);
+      Assertions.assertArrayEquals(expected, search.findAll(text.toCharArray(), KnuthMorrisPratt.compile(pattern)), word);
+    }
+  }
+
+  @Test
+  public void byteBufferTest()
+  {
+    ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    bytes.position(50);
+
+    for (String word : new String[]{"b", "abca", "ccc"})
+    {
+      byte[] pattern = word.getBytes(StandardCharsets.US_ASCII);
+      int[] expected = KnuthMorrisPratt.compile(word.toCharArray()).findAll(text.toCharArray()).toArray();
+
+      Assertions.assertArrayEquals(expected, search.findAll(bytes, BoyerMoore.compile(pattern)), word);
+      Assertions.assertArrayEquals(expected, search.findAll(bytes, RareBytePattern.compile(pattern)), word);
+      Assertions.assertEquals(50, bytes.position());
+    }
+  }
+
+  @Test
+  public void edgeCaseTest()
+  {
+    Matcher matcher = KnuthMorrisPratt.compile("abc".toCharArray());
+
+    Assertions.assertArrayEquals(new int[0], search.findAll(new char[0], matcher));
+    Assertions.assertArrayEquals(new int[0], search.findAll((char[]) null, matcher));
+    Assertions.assertArrayEquals(new int[]{0}, new ParallelSearch().findAll("abc".toCharArray(), matcher));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelSearch(ForkJoinPool.commonPool(), 0));
+  }
+}
@@ -0,0 +1,89 @@
+package org.aybarsacar.advancedAlgorithms.matcher;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class RareBytePatternTest
+{
+  @Test
+  public void findTest()
+  {
+    RareBytePattern pattern = RareBytePattern.compile("quiz".getBytes(StandardCharsets.US_ASCII));
+    byte[] text = "the quick quiz on a quiet quiz".getBytes(StandardCharsets.US_ASCII);
+
+    Assertions.assertEquals(4, pattern.length());
+    Assertions.assertEquals(10, pattern.find(text, 0));
+    Assertions.assertEquals(26, pattern.find(text, 11));
+    Assertions.assertEquals(-1, pattern.find(text, 27));
+    Assertions.assertEquals(-1, pattern.find((byte[]) null, 0));
+  }
+
+  @Test
+  public void byteOrderTest()
+  {
+//    the SWAR scan has to find the first match in the word whichever way the buffer reads longs
+    byte[] text = new byte[64];
+    text[13] = (byte) 0xFF;
+    text[14] = (byte) 0xFF;
+    RareBytePattern pattern = RareBytePattern.compile(new byte[]{(byte) 0xFF});
+
+    for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN})
+    {
+      ByteBuffer buffer = ByteBuffer.wrap(text).order(order);
+      List<Integer> found = new ArrayList<>();
+      pattern.findAll(buffer, found::add);
+
+      Assertions.assertEquals("[13, 14]", found.toString(), order.toString());
+      Assertions.assertEquals(0, buffer.position());
+    }
+  }
+
+  @Test
+  public void matchesIndexOfTest()
+  {
+    Random random = new Random(9);
+    for (int round = 0; round < 200; round++)
+    {
+      byte[] text = new byte[random.nextInt(200)];
+      for (int i = 0; i < text.length; i++)
+      {
+        text[i] = (byte) random.nextInt(3);
+      }
+      byte[] word = new byte[1 + random.nextInt(4)];
+      for (int i = 0; i < word.length; i++)
+      {
+        word[i] = (byte) random.nextInt(3);
+      }
+
+      String s = new String(text, StandardCharsets.ISO_8859_1);
+      String w = new String(word, StandardCharsets.ISO_8859_1);
+      List<Integer> expected = new ArrayList<>();
+      for (int i = s.indexOf(w); i >= 0; i = s.indexOf(w, i + 1))
+      {
+        expected.add(i);
+      }
+
+      List<Integer> found = new ArrayList<>();
+      RareBytePattern.compile(word).findAll(ByteBuffer.wrap(text), found::add);
+
+      Assertions.assertEquals(expected, found);
+    }
+  }
+
+  @Test
+  public void limitTest()
+  {
+//    a match past the limit of the buffer does not count
+    ByteBuffer buffer = ByteBuffer.wrap("abcabcabcXYZ".getBytes(StandardCharsets.US_ASCII));
+    buffer.limit(11);
+
+    Assertions.assertEquals(-1, RareBytePattern.compile("XYZ".getBytes(StandardCharsets.US_ASCII)).find(buffer, 0));
+  }
+}
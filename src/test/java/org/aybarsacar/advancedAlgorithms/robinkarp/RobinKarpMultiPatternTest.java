@@ -0,0 +1,99 @@
+package org.aybarsacar.advancedAlgorithms.robinkarp;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class RobinKarpMultiPatternTest
+{
+  @Test
+  public void findAllTest()
+  {
+    RobinKarpMultiPattern p = RobinKarp.compileAll("she".toCharArray(), "her".toCharArray(), "his".toCharArray());
+
+    Assertions.assertEquals(3, p.length());
+    Assertions.assertEquals(3, p.size());
+    Assertions.assertEquals("[0@1, 1@2, 2@8]", matches(p, "ushers this"));
+    Assertions.assertEquals("[]", matches(p, "nothing"));
+    Assertions.assertEquals("[]", matches(p, "sh"));
+  }
+
+  @Test
+  public void duplicatePatternsTest()
+  {
+    RobinKarpMultiPattern p = RobinKarp.compileAll("aa".toCharArray(), "ab".toCharArray(), "aa".toCharArray());
+
+    Assertions.assertEquals("[0@0, 2@0, 0@1, 2@1, 1@2]", matches(p, "aaab"));
+  }
+
+  @Test
+  public void containsAnyTest()
+  {
+    RobinKarpMultiPattern p = RobinKarp.compileAll("dog".toCharArray(), "cat".toCharArray());
+
+    Assertions.assertTrue(p.containsAny("a lazy dog".toCharArray()));
+    Assertions.assertFalse(p.containsAny("a lazy cow".toCharArray()));
+    Assertions.assertFalse(p.containsAny(null));
+  }
+
+  @Test
+  public void manyPatternsTest()
+  {
+//    every match of every pattern in one pass, checked against a search per pattern
+    Random random = new Random(5);
+    char[] text = randomText(random, 20_000);
+
+    List<String> words = new ArrayList<>();
+    char[][] patterns = new char[300][];
+    for (int i = 0; i < patterns.length; i++)
+    {
+      patterns[i] = randomText(random, 6);
+      words.add(new String(patterns[i]));
+    }
+
+    int[] counts = new int[patterns.length];
+    RobinKarp.compileAll(patterns).findAll(text, (id, start) -> {
+      counts[id]++;
+      Assertions.assertEquals(words.get(id), new String(text, start, 6));
+    });
+
+    String s = new String(text);
+    for (int i = 0; i < patterns.length; i++)
+    {
+      int expected = 0;
+      for (int j = s.indexOf(words.get(i)); j >= 0; j = s.indexOf(words.get(i), j + 1))
+      {
+        expected++;
+      }
+      Assertions.assertEquals(expected, counts[i], words.get(i));
+    }
+  }
+
+  @Test
+  public void invalidPatternsTest()
+  {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RobinKarp.compileAll());
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RobinKarp.compileAll(new char[0]));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> RobinKarp.compileAll("ab".toCharArray(), "abc".toCharArray()));
+  }
+
+  private static char[] randomText(Random random, int length)
+  {
+    char[] text = new char[length];
+    for (int i = 0; i < length; i++)
+    {
+      text[i] = (char) ('a' + random.nextInt(4));
+    }
+    return text;
+  }
+
+  private static String matches(RobinKarpMultiPattern p, String text)
+  {
+    List<String> found = new ArrayList<>();
+    p.findAll(text.toCharArray(), (id, start) -> found.add(id + "@" + start));
+    return found.toString();
+  }
+}
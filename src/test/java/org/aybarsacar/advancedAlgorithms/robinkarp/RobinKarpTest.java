@@ -38,20 +38,62 @@ public class RobinKarpTest
   @Test
   public void calculateHashTest()
   {
-//    calculate the hash for the first 3 values "acb"
-    Assertions.assertEquals(28L, rk.calculateHash("acbacc".toCharArray(), 3));
+//    with base 10 the hash of small digits is the number they spell
+    RobinKarp ten = new RobinKarp(10);
+    Assertions.assertEquals(123L, ten.calculateHash(new char[]{1, 2, 3, 4}, 3));
+    Assertions.assertEquals(234L, ten.calculateHash(new char[]{1, 2, 3, 4}, 1, 3));
+    Assertions.assertEquals(100L, ten.power(2));
   }
 
   @Test
   public void recalculateHashTest()
   {
-    Assertions.assertEquals(18, rk.recalculateHash(28L, 'a', 'a', 3));
+//    rolling over the text gives the same hash as hashing every window directly
+    char[] text = "the quick brown fox jumps over the lazy dog \u4e2d\u6587\uffff".toCharArray();
+    int m = 7;
+    long power = rk.power(m - 1);
+
+    long hash = rk.calculateHash(text, m);
+    for (int i = 1; i + m <= text.length; i++)
+    {
+      hash = rk.recalculateHash(hash, text[i - 1], text[i + m - 1], power);
+      Assertions.assertEquals(rk.calculateHash(text, i, m), hash);
+    }
+  }
+
+  @Test
+  public void multiplyTest()
+  {
+    long a = RobinKarp.MODULUS - 1;
+    long b = RobinKarp.MODULUS - 2;
+
+//    (-1) * (-2) = 2 and the results stay below the modulus
+    Assertions.assertEquals(2L, RobinKarp.multiply(a, b));
+    Assertions.assertEquals(1L, RobinKarp.multiply(a, a));
+    Assertions.assertEquals(0L, RobinKarp.mod(RobinKarp.MODULUS));
+    Assertions.assertEquals(6L, RobinKarp.multiply(2, 3));
+  }
+
+  @Test
+  public void longPatternTest()
+  {
+//    the old hash overflowed long before 100 chars
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < 5_000; i++)
+    {
+      s.append((char) ('a' + i * 7 % 26));
+    }
+    char[] text = s.toString().toCharArray();
+    char[] pattern = s.substring(3_001, 3_501).toCharArray();
+
+    Assertions.assertEquals(s.indexOf(s.substring(3_001, 3_501)), rk.search(text, pattern));
+    Assertions.assertEquals(-1, rk.search(text, (s.substring(3_001, 3_500) + "!").toCharArray()));
   }
 
   @Test
-  public void charValueTest()
+  public void invalidBaseTest()
   {
-    Assertions.assertEquals(97, 'a');
-    Assertions.assertEquals(1, rk.charValue('a'));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new RobinKarp(1));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new RobinKarp(RobinKarp.MODULUS));
   }
 }
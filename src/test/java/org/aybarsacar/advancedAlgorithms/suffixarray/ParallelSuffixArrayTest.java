@@ -0,0 +1,90 @@
+package org.aybarsacar.advancedAlgorithms.suffixarray;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelSuffixArrayTest
+{
+  @Test
+  public void bananaTest()
+  {
+    SuffixArray sa = new ParallelSuffixArray().build("banana".toCharArray());
+
+    Assertions.assertArrayEquals(new int[]{5, 3, 1, 0, 4, 2}, sa.sa());
+    Assertions.assertArrayEquals(new int[]{1, 3, 5}, sa.findAll("a".toCharArray()));
+  }
+
+  @Test
+  public void edgeCasesTest()
+  {
+    ParallelSuffixArray builder = new ParallelSuffixArray();
+
+    Assertions.assertArrayEquals(new int[0], builder.build(new char[0]).sa());
+    Assertions.assertArrayEquals(new int[]{0}, builder.build("a".toCharArray()).sa());
+    Assertions.assertArrayEquals(new int[]{1, 0}, builder.build("\uffff\u0000".toCharArray()).sa());
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> builder.build(null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new ParallelSuffixArray(ForkJoinPool.commonPool(), 0));
+  }
+
+  @Test
+  public void sameAsSequentialTest()
+  {
+//    tiny chunks split every round and merge sort every large group
+    Random random = new Random(17);
+    ForkJoinPool pool = new ForkJoinPool(4);
+
+    try
+    {
+      for (int chunkSize : new int[]{1, 7, 64, ParallelSuffixArray.DEFAULT_CHUNK_SIZE})
+      {
+        ParallelSuffixArray builder = new ParallelSuffixArray(pool, chunkSize);
+
+        for (int t = 0; t < 40; t++)
+        {
+          char[] text = randomText(random, random.nextInt(2000), 1 + random.nextInt(t % 2 == 0 ? 2 : 40));
+          Assertions.assertArrayEquals(SuffixArray.build(text).sa(), builder.build(text).sa(), "chunkSize " + chunkSize);
+        }
+      }
+    }
+    finally
+    {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void repetitiveTextTest()
+  {
+//    runs and periods keep large groups unsorted for many rounds
+    char[] run = new char[100_000];
+    Arrays.fill(run, 'a');
+
+    char[] periodic = new char[100_000];
+    for (int i = 0; i < periodic.length; i++)
+    {
+      periodic[i] = "abcab".charAt(i % 5);
+    }
+
+    ParallelSuffixArray builder = new ParallelSuffixArray(ForkJoinPool.commonPool(), 1000);
+    Assertions.assertArrayEquals(SuffixArray.build(run).sa(), builder.build(run).sa());
+    Assertions.assertArrayEquals(SuffixArray.build(periodic).sa(), builder.build(periodic).sa());
+
+    char[] text = randomText(new Random(2), 300_000, 4);
+    Assertions.assertArrayEquals(SuffixArray.build(text).sa(), new ParallelSuffixArray().build(text).sa());
+  }
+
+  private static char[] randomText(Random random, int length, int alphabet)
+  {
+    char[] text = new char[length];
+    for (int i = 0; i < length; i++)
+    {
+      text[i] = (char) ('a' + random.nextInt(alphabet));
+    }
+    return text;
+  }
+}
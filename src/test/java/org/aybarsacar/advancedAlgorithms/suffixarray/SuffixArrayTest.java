@@ -0,0 +1,191 @@
+package org.aybarsacar.advancedAlgorithms.suffixarray;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class SuffixArrayTest
+{
+  @Test
+  public void bananaTest()
+  {
+    SuffixArray sa = SuffixArray.build("banana".toCharArray());
+
+    Assertions.assertArrayEquals(new int[]{5, 3, 1, 0, 4, 2}, sa.sa());
+    Assertions.assertArrayEquals(new int[]{0, 1, 3, 0, 0, 2}, sa.lcp());
+    Assertions.assertEquals("ana", new String(sa.longestRepeatedSubstring()));
+  }
+
+  @Test
+  public void searchTest()
+  {
+    SuffixArray sa = SuffixArray.build("banana".toCharArray());
+
+    Assertions.assertTrue(sa.contains("nan".toCharArray()));
+    Assertions.assertFalse(sa.contains("nab".toCharArray()));
+    Assertions.assertFalse(sa.contains("bananas".toCharArray()));
+    Assertions.assertEquals(2, sa.count("ana".toCharArray()));
+    Assertions.assertEquals(3, sa.count("a".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{1, 3, 5}, sa.findAll("a".toCharArray()));
+    Assertions.assertEquals(0, sa.find("banana".toCharArray()));
+    Assertions.assertEquals(-1, sa.find("c".toCharArray()));
+    Assertions.assertArrayEquals(new int[0], sa.findAll("x".toCharArray()));
+  }
+
+  @Test
+  public void edgeCasesTest()
+  {
+    Assertions.assertEquals(0, SuffixArray.build(new char[0]).length());
+    Assertions.assertEquals(0, SuffixArray.build(new char[0]).count("a".toCharArray()));
+    Assertions.assertEquals(0, SuffixArray.build(new char[0]).longestRepeatedSubstring().length);
+    Assertions.assertArrayEquals(new int[]{0}, SuffixArray.build("a".toCharArray()).sa());
+    Assertions.assertEquals(0, SuffixArray.build("ab".toCharArray()).longestRepeatedSubstring().length);
+
+//    every suffix of a run is a prefix of the longer ones
+    char[] run = new char[1000];
+    Arrays.fill(run, 'a');
+    SuffixArray sa = SuffixArray.build(run);
+    for (int i = 0; i < run.length; i++)
+    {
+      Assertions.assertEquals(run.length - 1 - i, sa.sa()[i]);
+    }
+    Assertions.assertEquals(999, sa.longestRepeatedSubstring().length);
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> SuffixArray.build(null));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> sa.count(new char[0]));
+  }
+
+  @Test
+  public void wideCharsTest()
+  {
+    SuffixArray sa = SuffixArray.build("\u4e2d\u6587\u0000\uffff\u4e2d\u6587".toCharArray());
+
+    Assertions.assertArrayEquals(new int[]{0, 4}, sa.findAll("\u4e2d\u6587".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{2, 4, 0, 5, 1, 3}, sa.sa());
+  }
+
+  @Test
+  public void randomTextsTest()
+  {
+//    checked against sorting the suffixes and String.indexOf, small alphabets give long repeats
+    Random random = new Random(11);
+
+    for (int t = 0; t < 300; t++)
+    {
+      int alphabet = 1 + random.nextInt(t % 3 == 0 ? 2 : 26);
+      char[] text = randomText(random, random.nextInt(400), alphabet);
+      SuffixArray sa = SuffixArray.build(text);
+      String s = new String(text);
+
+      Assertions.assertArrayEquals(naiveSuffixArray(s), sa.sa(), s);
+      Assertions.assertArrayEquals(naiveLcp(s, sa.sa()), sa.lcp(), s);
+
+      for (int q = 0; q < 20; q++)
+      {
+        char[] pattern = q % 2 == 0 && text.length > 0
+            ? substring(random, text)
+            : randomText(random, 1 + random.nextInt(4), alphabet);
+
+        int[] expected = indexOfAll(s, new String(pattern));
+        Assertions.assertArrayEquals(expected, sa.findAll(pattern), s + " " + new String(pattern));
+        Assertions.assertEquals(expected.length, sa.count(pattern));
+
+        int found = sa.find(pattern);
+        if (expected.length == 0) Assertions.assertEquals(-1, found);
+        else Assertions.assertTrue(s.startsWith(new String(pattern), found));
+      }
+    }
+  }
+
+  @Test
+  public void largeTextTest()
+  {
+    Random random = new Random(5);
+    char[] text = randomText(random, 200_000, 4);
+    SuffixArray sa = SuffixArray.build(text);
+
+    int[] suffixes = sa.sa();
+    for (int i = 1; i < suffixes.length; i++)
+    {
+      Assertions.assertTrue(compare(text, suffixes[i - 1], suffixes[i]) < 0);
+    }
+
+    String repeat = new String(sa.longestRepeatedSubstring());
+    String s = new String(text);
+    Assertions.assertNotEquals(s.indexOf(repeat), s.lastIndexOf(repeat));
+  }
+
+  private static int[] naiveSuffixArray(String s)
+  {
+    Integer[] starts = new Integer[s.length()];
+    for (int i = 0; i < starts.length; i++)
+    {
+      starts[i] = i;
+    }
+    Arrays.sort(starts, (a, b) -> s.substring(a).compareTo(s.substring(b)));
+
+    int[] sa = new int[starts.length];
+    for (int i = 0; i < sa.length; i++)
+    {
+      sa[i] = starts[i];
+    }
+    return sa;
+  }
+
+  private static int[] naiveLcp(String s, int[] sa)
+  {
+    int[] lcp = new int[sa.length];
+    for (int i = 1; i < sa.length; i++)
+    {
+      int h = 0;
+      while (sa[i] + h < s.length() && sa[i - 1] + h < s.length() && s.charAt(sa[i] + h) == s.charAt(sa[i - 1] + h))
+      {
+        h++;
+      }
+      lcp[i] = h;
+    }
+    return lcp;
+  }
+
+  private static int compare(char[] text, int a, int b)
+  {
+    while (a < text.length && b < text.length)
+    {
+      if (text[a] != text[b]) return text[a] - text[b];
+      a++;
+      b++;
+    }
+    return a == text.length ? -1 : 1;
+  }
+
+  private static int[] indexOfAll(String s, String pattern)
+  {
+    List<Integer> found = new ArrayList<>();
+    for (int i = s.indexOf(pattern); i >= 0; i = s.indexOf(pattern, i + 1))
+    {
+      found.add(i);
+    }
+    return found.stream().mapToInt(Integer::intValue).toArray();
+  }
+
+  private static char[] substring(Random random, char[] text)
+  {
+    int start = random.nextInt(text.length);
+    int length = 1 + random.nextInt(Math.min(10, text.length - start));
+    return Arrays.copyOfRange(text, start, start + length);
+  }
+
+  private static char[] randomText(Random random, int length, int alphabet)
+  {
+    char[] text = new char[length];
+    for (int i = 0; i < length; i++)
+    {
+      text[i] = (char) ('a' + random.nextInt(alphabet));
+    }
+    return text;
+  }
+}
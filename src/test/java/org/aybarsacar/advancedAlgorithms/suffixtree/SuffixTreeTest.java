@@ -4,6 +4,13 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+
 public class SuffixTreeTest
 {
   SuffixTree t;
@@ -20,11 +27,231 @@ public class SuffixTreeTest
     Assertions.assertArrayEquals("banana$".toCharArray(), t.getInput());
   }
 
+  @Test
+  public void invalidInputTest()
+  {
+//    $ terminates the input and char 0 means no char while building
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SuffixTree("ab$ab".toCharArray()));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new SuffixTree("a\u0000a\u0000".toCharArray()));
+  }
+
   @Test
   public void buildSuffixTreeTest()
   {
     t.buildSuffixTree();
     t.dfsTraversal();
-    System.out.println(t.root);
+    System.out.println(t);
+  }
+
+  @Test
+  public void leavesSpellSuffixesTest()
+  {
+    t.buildSuffixTree();
+
+    Assertions.assertEquals(7, leaves(t, t.root, ""));
+    Assertions.assertEquals(11, t.nodeCount());
+  }
+
+  @Test
+  public void randomInputTest()
+  {
+//    every suffix ends in exactly one leaf, also for chars that did not fit the old 256 slot arrays
+    Random random = new Random(29);
+    for (int round = 0; round < 200; round++)
+    {
+      char[] input = new char[random.nextInt(40)];
+      for (int i = 0; i < input.length; i++)
+      {
+        input[i] = random.nextInt(10) == 0 ? '\u4e2d' : (char) ('a' + random.nextInt(3));
+      }
+
+      SuffixTree tree = new SuffixTree(input);
+      tree.buildSuffixTree();
+
+      Assertions.assertEquals(input.length + 1, leaves(tree, tree.root, ""), new String(input));
+    }
+  }
+
+  @Test
+  public void tracerTest()
+  {
+    List<String> lines = new ArrayList<>();
+    t.setTracer(lines::add);
+    t.buildSuffixTree();
+
+    Assertions.assertTrue(lines.get(0).startsWith("Phase(b) Rule 2 Extension"));
+
+//    quiet again once the tracer is removed
+    lines.clear();
+    t.setTracer(null);
+    t.buildSuffixTree();
+    Assertions.assertTrue(lines.isEmpty());
+
+    t.dfsTraversal(lines::add);
+    Assertions.assertEquals(Arrays.asList("$ index = 6", "a$ index = 5", "ana$ index = 3", "anana$ index = 1",
+        "banana$ index = 0", "na$ index = 4", "nana$ index = 2"), lines);
+  }
+
+  @Test
+  public void deepTreeTest()
+  {
+//    one internal node per a, too deep for any recursive walk
+    char[] input = new char[200_000];
+    Arrays.fill(input, 'a');
+
+    SuffixTree tree = new SuffixTree(input);
+    tree.buildSuffixTree();
+
+    boolean[] seen = new boolean[input.length + 1];
+    Deque<Integer> stack = new ArrayDeque<>();
+    stack.push(tree.root);
+    while (!stack.isEmpty())
+    {
+      int node = stack.pop();
+      if (tree.suffixIndex(node) >= 0) seen[tree.suffixIndex(node)] = true;
+      for (int child : tree.children(node))
+      {
+        stack.push(child);
+      }
+    }
+
+    for (int i = 0; i < seen.length; i++)
+    {
+      Assertions.assertTrue(seen[i], "suffix " + i);
+    }
+
+    String text = tree.toString();
+    Assertions.assertEquals(tree.nodeCount(), text.split("SuffixNode", -1).length - 1);
+  }
+
+  @Test
+  public void queryTest()
+  {
+    t.buildSuffixTree();
+
+    Assertions.assertTrue(t.contains("nan".toCharArray()));
+    Assertions.assertFalse(t.contains("nab".toCharArray()));
+    Assertions.assertFalse(t.contains("bananas".toCharArray()));
+    Assertions.assertEquals(3, t.count("a".toCharArray()));
+    Assertions.assertEquals(2, t.count("ana".toCharArray()));
+    Assertions.assertEquals(0, t.count("x".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{1, 3}, t.findAll("ana".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{0}, t.findAll("banana".toCharArray()));
+    Assertions.assertArrayEquals(new int[0], t.findAll("nn".toCharArray()));
+
+//    the terminator is not part of the text
+    Assertions.assertFalse(t.contains("$".toCharArray()));
+    Assertions.assertFalse(t.contains("a$".toCharArray()));
+    Assertions.assertEquals(0, t.count("na$".toCharArray()));
+    Assertions.assertArrayEquals(new int[0], t.findAll("a$".toCharArray()));
+
+    Assertions.assertThrows(IllegalArgumentException.class, () -> t.count(new char[0]));
+    Assertions.assertThrows(IllegalArgumentException.class, () -> t.findAll(new char[0]));
+
+    Assertions.assertThrows(IllegalStateException.class, () -> new SuffixTree("a".toCharArray()).count("a".toCharArray()));
+  }
+
+  @Test
+  public void queriesMatchIndexOfTest()
+  {
+    Random random = new Random(31);
+    for (int round = 0; round < 100; round++)
+    {
+      String text = randomText(random, random.nextInt(60));
+      SuffixTree tree = new SuffixTree(text.toCharArray());
+      tree.buildSuffixTree();
+
+      for (int q = 0; q < 20; q++)
+      {
+        String word = randomText(random, 1 + random.nextInt(4));
+        List<Integer> expected = new ArrayList<>();
+        for (int i = text.indexOf(word); i >= 0; i = text.indexOf(word, i + 1))
+        {
+          expected.add(i);
+        }
+
+        Assertions.assertEquals(expected.size(), tree.count(word.toCharArray()), text + " " + word);
+        Assertions.assertEquals(expected.toString(), Arrays.toString(tree.findAll(word.toCharArray())), text + " " + word);
+      }
+    }
+  }
+
+  @Test
+  public void longestRepeatedSubstringTest()
+  {
+    t.buildSuffixTree();
+    Assertions.assertEquals("ana", new String(t.longestRepeatedSubstring()));
+
+    SuffixTree tree = new SuffixTree("abcd".toCharArray());
+    tree.buildSuffixTree();
+    Assertions.assertEquals("", new String(tree.longestRepeatedSubstring()));
+
+    tree = new SuffixTree("xabcyabcz".toCharArray());
+    tree.buildSuffixTree();
+    Assertions.assertEquals("abc", new String(tree.longestRepeatedSubstring()));
+  }
+
+  @Test
+  public void longestCommonSubstringTest()
+  {
+    Assertions.assertEquals("abcd", new String(SuffixTree.longestCommonSubstring("xabcdy".toCharArray(), "zzabcdzz".toCharArray())));
+    Assertions.assertEquals("", new String(SuffixTree.longestCommonSubstring("abc".toCharArray(), "xyz".toCharArray())));
+
+//    a repeat inside one text alone does not count
+    Assertions.assertEquals("b", new String(SuffixTree.longestCommonSubstring("aaaab".toCharArray(), "bcb".toCharArray())));
+
+    Random random = new Random(37);
+    for (int round = 0; round < 100; round++)
+    {
+      String a = randomText(random, random.nextInt(30));
+      String b = randomText(random, random.nextInt(30));
+
+      int expected = 0;
+      for (int i = 0; i < a.length(); i++)
+      {
+        for (int j = i + 1; j <= a.length(); j++)
+        {
+          if (b.contains(a.substring(i, j))) expected = Math.max(expected, j - i);
+        }
+      }
+
+      String common = new String(SuffixTree.longestCommonSubstring(a.toCharArray(), b.toCharArray()));
+      Assertions.assertEquals(expected, common.length(), a + " " + b);
+      Assertions.assertTrue(a.contains(common) && b.contains(common));
+    }
+  }
+
+  private static String randomText(Random random, int length)
+  {
+    StringBuilder s = new StringBuilder();
+    for (int i = 0; i < length; i++)
+    {
+      s.append((char) ('a' + random.nextInt(3)));
+    }
+    return s.toString();
+  }
+
+  /**
+   * checks that the path to every leaf spells the suffix of its index
+   *
+   * @return number of leaves under the node
+   */
+  private static int leaves(SuffixTree tree, int node, String path)
+  {
+    char[] input = tree.getInput();
+    if (node != tree.root) path += new String(input, tree.edgeStart(node), tree.end(node) - tree.edgeStart(node) + 1);
+
+    if (tree.suffixIndex(node) >= 0)
+    {
+      Assertions.assertEquals(new String(input, tree.suffixIndex(node), input.length - tree.suffixIndex(node)), path);
+      return 1;
+    }
+
+    int count = 0;
+    for (int child : tree.children(node))
+    {
+      count += leaves(tree, child, path);
+    }
+    return count;
   }
 }
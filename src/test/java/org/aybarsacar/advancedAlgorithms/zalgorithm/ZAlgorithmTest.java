@@ -1,9 +1,12 @@
 package org.aybarsacar.advancedAlgorithms.zalgorithm;
 
+import org.aybarsacar.advancedAlgorithms.kmp.KnuthMorrisPratt;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 public class ZAlgorithmTest
 {
   ZAlgorithm z;
@@ -52,4 +55,64 @@ public class ZAlgorithmTest
     Assertions.assertArrayEquals(new int[]{0, 0, 0, 1, 2, 0, 0}, z.createZTable("ab".toCharArray(),
         "aabb".toCharArray()));
   }
+
+  @Test
+  public void separatorTest()
+  {
+//    the text and the pattern may contain the char the concatenated table used as a separator
+    Assertions.assertEquals(5, z.search("$5".toCharArray(), "cost$$5".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{0, 2, 0, 2, 0}, z.searchAll("a$".toCharArray(), "$a$a$".toCharArray()));
+  }
+
+  @Test
+  public void zArrayTest()
+  {
+    Assertions.assertArrayEquals(new int[]{7, 0, 1, 0, 3, 0, 1}, ZAlgorithm.zArray("abacaba".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{4, 3, 2, 1}, ZAlgorithm.zArray("aaaa".toCharArray()));
+    Assertions.assertArrayEquals(new int[0], ZAlgorithm.zArray(new char[0]));
+  }
+
+  @Test
+  public void matchLengthsTest()
+  {
+    char[] pattern = "ab".toCharArray();
+
+//    the text part of createZTableTest without the concatenation
+    Assertions.assertArrayEquals(new int[]{1, 2, 0, 0},
+        ZAlgorithm.matchLengths(pattern, ZAlgorithm.zArray(pattern), "aabb".toCharArray()));
+  }
+
+  @Test
+  public void borderTableTest()
+  {
+//    the same table as KMP builds directly
+    Random random = new Random(11);
+    for (int round = 0; round < 200; round++)
+    {
+      char[] s = new char[1 + random.nextInt(30)];
+      for (int i = 0; i < s.length; i++)
+      {
+        s[i] = (char) ('a' + random.nextInt(2));
+      }
+
+      Assertions.assertArrayEquals(new KnuthMorrisPratt().computeLSPTable(s), ZAlgorithm.borderTable(ZAlgorithm.zArray(s)),
+          new String(s));
+    }
+  }
+
+  @Test
+  public void periodTest()
+  {
+    Assertions.assertEquals(3, ZAlgorithm.period("abcabcab".toCharArray()));
+    Assertions.assertEquals(1, ZAlgorithm.period("aaaa".toCharArray()));
+    Assertions.assertEquals(5, ZAlgorithm.period("abcde".toCharArray()));
+  }
+
+  @Test
+  public void bordersTest()
+  {
+    Assertions.assertArrayEquals(new int[]{5, 2}, ZAlgorithm.borders("abaabaab".toCharArray()));
+    Assertions.assertArrayEquals(new int[]{3, 2, 1}, ZAlgorithm.borders("aaaa".toCharArray()));
+    Assertions.assertArrayEquals(new int[0], ZAlgorithm.borders("abc".toCharArray()));
+  }
 }